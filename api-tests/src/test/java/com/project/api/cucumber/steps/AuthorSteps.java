@@ -119,14 +119,14 @@ public class AuthorSteps {
     lastResponse = authorService.createDuplicateAuthor();
   }
 
-  @Then("the API should return a 500 error")
-  public void theAPIShouldReturnA500Error() {
-    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, lastResponse.status(), "Expected 500 error");
+  @Then("the API should return a conflict error")
+  public void theAPIShouldReturnAConflictError() {
+    assertEquals(HttpStatus.CONFLICT, lastResponse.status(), "Expected 409 error for a duplicate author");
   }
 
   @When("I create a test author with duplicate book ISBNs")
   public void iCreateTestAuthorWithDuplicateISBNs() {
-    lastResponse = authorService.createAuthorWithDuplicateISBNs(createdAuthorIds, createdBookIds);
+    lastResponse = authorService.createAuthorWithDuplicateISBNs();
   }
 
   @After
@@ -123,7 +123,7 @@ public class AuthorService {
   }
 
   /**
-   * Create a duplicate author (for testing 500 response)
+   * Create a duplicate author (for testing 409 response)
    */
   public APIResponse createDuplicateAuthor() {
     String name = "Dup Author";
@@ -138,27 +138,24 @@ public class AuthorService {
   }
 
   /**
-   * Create an author and attempt to add books with duplicate ISBNs
+   * Create an author whose books share one ISBN (rejected with 400, nothing is created)
    */
-  public APIResponse createAuthorWithDuplicateISBNs(List<Integer> createdAuthorIds, List<Integer> createdBookIds) {
-    int authorId = createAuthor("Author Duplicate ISBNs", "1990-01-01", "Unknown");
-    createdAuthorIds.add(authorId); // track author
-
+  public APIResponse createAuthorWithDuplicateISBNs() {
     String isbn = "isbn-" + System.nanoTime();
 
-    // Add first book
-    int firstBookId = bookService.createBook("Book 1", isbn, authorId);
-    createdBookIds.add(firstBookId); // track book
-
-    // Attempt duplicate ISBN (won't create a new book)
-    JSONObject duplicateBook = new JSONObject()
-      .put("title", "Book 2")
-      .put("isbn", isbn);
+    JSONObject authorData = new JSONObject()
+      .put("name", "Author Duplicate ISBNs " + System.nanoTime())
+      .put("birthDate", "1990-01-01")
+      .put("nationality", "Unknown")
+      .put("books", new JSONArray()
+        .put(new JSONObject().put("title", "Book 1").put("isbn", isbn).put("publicationDate", "2025-01-01"))
+        .put(new JSONObject().put("title", "Book 2").put("isbn", isbn).put("publicationDate", "2025-01-02")));
 
-    return api.post("/authors/" + authorId + "/books",
+    return api.post("/authors",
       RequestOptions.create()
         .setHeader("Content-Type", "application/json")
-        .setData(duplicateBook.toString())
+        .setData(authorData.toString())
     );
   }
+
 }
@@ -230,8 +230,8 @@ public class AuthorApiTest extends BaseEntityTest {
         .setData(authorData.toString())
     );
 
-    assertEquals(500, response.status(),
-      "Duplicate author name must return 500, got: " + response.status());
+    assertEquals(409, response.status(),
+      "Duplicate author name must return 409, got: " + response.status());
 
     System.out.println("✅ Duplicate author name properly rejected with status: " + response.status());
   }
@@ -271,8 +271,8 @@ public class AuthorApiTest extends BaseEntityTest {
     System.out.println("📋 API response status: " + response.status());
     System.out.println("📋 API response body:\n" + response.text());
 
-    assertEquals(500, response.status(),
-      "Duplicate ISBNs in author cascade must return 500, got: " + response.status());
+    assertEquals(400, response.status(),
+      "Duplicate ISBNs in author cascade must return 400, got: " + response.status());
   }
 
   @AfterAll
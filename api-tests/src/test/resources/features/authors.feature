@@ -31,9 +31,9 @@ Feature: Authors API
   Scenario: Reject duplicate author name
     Given a test author exists with name "Dup Author"
     When I create another author with the same name
-    Then the API should return a 500 error
+    Then the API should return a conflict error
 
   @regression @integration
   Scenario: Reject author with duplicate ISBNs
     When I create a test author with duplicate book ISBNs
-    Then the API should return a 500 error
+    Then the API should return a client error
@@ -0,0 +1,89 @@
+package org.mobelite.editormanager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.CacheStatsDTO;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of ISBN lookups in front of {@code BookRepository.findByIsbn}. Misses are cached
+ * too (as an empty Optional, for a shorter TTL) so repeated scans of unknown ISBNs stay off the
+ * database. Every {@link CatalogChangedEvent} carrying books evicts their ISBNs once the write has
+ * committed, which covers single and batch inserts as well as book and author deletions.
+ */
+@Component
+public class BookLookupCache {
+    public static final String NAME = "books-by-isbn";
+
+    private final Cache<String, Optional<BookDTO>> cache;
+
+    public BookLookupCache(@Value("${books.isbn-cache.maximum-size:10000}") long maximumSize,
+                           @Value("${books.isbn-cache.ttl:10m}") Duration ttl,
+                           @Value("${books.isbn-cache.negative-ttl:30s}") Duration negativeTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Optional<BookDTO>>() {
+                    @Override
+                    public long expireAfterCreate(String isbn, Optional<BookDTO> book, long currentTime) {
+                        return (book.isPresent() ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String isbn, Optional<BookDTO> book, long currentTime, long currentDuration) {
+                        return expireAfterCreate(isbn, book, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String isbn, Optional<BookDTO> book, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    public static String normalize(String isbn) {
+        return isbn == null ? "" : isbn.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the cached lookup, calling the loader with the normalized ISBN on a miss. The entry
+     * answers every spelling that normalizes to the same key; the ISBN column's case-insensitive
+     * collation lets the loader keep its plain, indexed equality lookup.
+     */
+    public Optional<BookDTO> get(String isbn, Function<String, Optional<BookDTO>> loader) {
+        return cache.get(normalize(isbn), loader);
+    }
+
+    public void invalidate(String isbn) {
+        cache.invalidate(normalize(isbn));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        event.getBooks().forEach(book -> invalidate(book.getIsbn()));
+    }
+
+    public CacheStatsDTO getStats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDTO(
+                NAME,
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package org.mobelite.editormanager.cache;
+
+import org.mobelite.editormanager.enums.CatalogCollection;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One version counter per collection endpoint, bumped after every committed write that changes
+ * what the endpoint returns, and turned into a strong ETag. The counters live in memory, so the
+ * ETag also carries the startup time: a restart can never make an old ETag match again.
+ * <p>
+ * Readers must take the ETag before they query: a write committing in between then yields newer
+ * data under the older tag, which the next request simply re-fetches, never the reverse.
+ */
+@Component
+public class CatalogVersions {
+    private final long epoch = System.currentTimeMillis();
+    private final Map<CatalogCollection, AtomicLong> versions = new EnumMap<>(CatalogCollection.class);
+
+    public CatalogVersions() {
+        for (CatalogCollection collection : CatalogCollection.values()) {
+            versions.put(collection, new AtomicLong());
+        }
+    }
+
+    public long version(CatalogCollection collection) {
+        return versions.get(collection).get();
+    }
+
+    public String eTag(CatalogCollection collection) {
+        return eTag(collection, version(collection));
+    }
+
+    public String eTag(CatalogCollection collection, long version) {
+        return "\"" + collection.name().toLowerCase(Locale.ROOT) + "-" + epoch + "-" + version + "\"";
+    }
+
+    // Runs before the other after-commit listeners, so anything they rebuild sees the new versions
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        boolean deleted = event.getChange() == CatalogChangedEvent.Change.DELETED;
+        if (!event.getBooks().isEmpty()) {
+            // Authors are listed with their books
+            bump(CatalogCollection.BOOKS);
+            bump(CatalogCollection.AUTHORS);
+        }
+        if (!event.getAuthors().isEmpty()) {
+            bump(CatalogCollection.AUTHORS);
+            if (deleted) {
+                // Magazines are listed with their authors, and lose the deleted ones
+                bump(CatalogCollection.MAGAZINES);
+            }
+        }
+        if (!event.getMagazines().isEmpty()) {
+            bump(CatalogCollection.MAGAZINES);
+        }
+    }
+
+    private void bump(CatalogCollection collection) {
+        versions.get(collection).incrementAndGet();
+    }
+}
@@ -0,0 +1,116 @@
+package org.mobelite.editormanager.cache;
+
+import org.mobelite.editormanager.config.RoutingContext;
+import org.mobelite.editormanager.dto.CoalescingStatsDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for read methods: while a load for a key is running, identical calls wait for it
+ * and get the same result (or the same exception) instead of issuing their own queries. Nothing is
+ * kept once the load finishes, so this only collapses concurrent bursts and never serves old data.
+ * Callers share the returned object and must treat it as read-only, so loads should return DTOs
+ * rather than managed entities.
+ * <p>
+ * Call it outside any transaction: the load runs in a read-only transaction that only the leader
+ * opens, so followers waiting for it hold no database connection.
+ */
+@Component
+public class RequestCoalescer {
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private final TransactionOperations readOnlyTransaction;
+
+    @Autowired
+    public RequestCoalescer(PlatformTransactionManager transactionManager) {
+        this(readOnly(transactionManager));
+    }
+
+    public RequestCoalescer(TransactionOperations readOnlyTransaction) {
+        this.readOnlyTransaction = readOnlyTransaction;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T coalesce(String operation, Object key, Supplier<T> load) {
+        // The caller already holds a connection, and may need to see its own uncommitted writes
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return load.get();
+        }
+        // A caller held to the primary must not join a load that may be reading a lagging replica
+        if (RoutingContext.isPrimaryRequired()) {
+            return readOnlyTransaction.execute(status -> load.get());
+        }
+
+        Counters stats = counters.computeIfAbsent(operation, name -> new Counters());
+        stats.calls.increment();
+
+        List<Object> flightKey = List.of(operation, key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, mine);
+        if (leader != null) {
+            return (T) await(leader);
+        }
+
+        stats.executions.increment();
+        try {
+            T result = readOnlyTransaction.execute(status -> load.get());
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    public List<CoalescingStatsDTO> getStats() {
+        return counters.entrySet().stream()
+                .map(entry -> {
+                    long calls = entry.getValue().calls.sum();
+                    long executions = entry.getValue().executions.sum();
+                    return new CoalescingStatsDTO(entry.getKey(), calls, executions, calls - executions);
+                })
+                .sorted(Comparator.comparing(CoalescingStatsDTO::getOperation))
+                .toList();
+    }
+
+    // Rethrows the leader's own exception so followers fail exactly as the leader did
+    private static Object await(CompletableFuture<Object> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private static TransactionOperations readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private static final class Counters {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder executions = new LongAdder();
+    }
+}
@@ -0,0 +1,196 @@
+package org.mobelite.editormanager.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.mobelite.editormanager.config.RoutingContext;
+import org.mobelite.editormanager.dto.ApiResponse;
+import org.mobelite.editormanager.dto.AuthorDTO;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.MagazineDTO;
+import org.mobelite.editormanager.enums.CatalogCollection;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
+import org.mobelite.editormanager.services.AuthorService;
+import org.mobelite.editormanager.services.BookService;
+import org.mobelite.editormanager.services.MagazineService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The full GET /authors, /books and /magazines responses, serialized once per catalog version and
+ * kept as plain and gzipped bytes. A snapshot is never modified, only replaced, so readers take the
+ * current one without locking and answer with no query and no serialization. Writes trigger an
+ * asynchronous rebuild once committed; a request that still finds a stale snapshot rebuilds it
+ * itself, one request per collection at a time, so a stale body is never served.
+ * <p>
+ * The {@code timestamp} of a snapshot response is the time the snapshot was built.
+ */
+@Slf4j
+@Component
+public class ResponseSnapshots {
+    private final AuthorService authorService;
+    private final BookService bookService;
+    private final MagazineService magazineService;
+    private final CatalogVersions catalogVersions;
+    private final ObjectMapper objectMapper;
+
+    private final Map<CatalogCollection, AtomicReference<Snapshot>> snapshots = new EnumMap<>(CatalogCollection.class);
+    private final Map<CatalogCollection, Object> rebuildLocks = new EnumMap<>(CatalogCollection.class);
+
+    public ResponseSnapshots(AuthorService authorService,
+                             BookService bookService,
+                             MagazineService magazineService,
+                             CatalogVersions catalogVersions,
+                             ObjectMapper objectMapper) {
+        this.authorService = authorService;
+        this.bookService = bookService;
+        this.magazineService = magazineService;
+        this.catalogVersions = catalogVersions;
+        this.objectMapper = objectMapper;
+        for (CatalogCollection collection : CatalogCollection.values()) {
+            snapshots.put(collection, new AtomicReference<>());
+            rebuildLocks.put(collection, new Object());
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refreshAll();
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        refreshAll();
+    }
+
+    /** Rebuilds every snapshot that is behind its collection's version. */
+    public void refreshAll() {
+        for (CatalogCollection collection : CatalogCollection.values()) {
+            try {
+                get(collection);
+            } catch (RuntimeException ex) {
+                log.warn("Could not rebuild the {} snapshot, the next request will retry", collection, ex);
+            }
+        }
+    }
+
+    /**
+     * Answers a GET for the collection: 304 when If-None-Match carries the current tag, otherwise
+     * the snapshot bytes, gzipped when the client accepts it.
+     */
+    public ResponseEntity<byte[]> respond(CatalogCollection collection, WebRequest request) {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = variant(catalogVersions.eTag(collection), gzip);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        Snapshot snapshot = get(collection);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(variant(snapshot.eTag(), gzip))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        return gzip
+                ? response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip())
+                : response.body(snapshot.json());
+    }
+
+    public Snapshot get(CatalogCollection collection) {
+        Snapshot current = snapshots.get(collection).get();
+        if (current != null && current.version() == catalogVersions.version(collection)) {
+            return current;
+        }
+        synchronized (rebuildLocks.get(collection)) {
+            // The version is read before the query, as for the ETag: newer data under an older version is safe
+            long version = catalogVersions.version(collection);
+            current = snapshots.get(collection).get();
+            if (current != null && current.version() == version) {
+                return current;
+            }
+            Snapshot rebuilt = build(collection, version);
+            snapshots.get(collection).set(rebuilt);
+            return rebuilt;
+        }
+    }
+
+    private Snapshot build(CatalogCollection collection, long version) {
+        long start = System.nanoTime();
+        // Read from the primary: the snapshot is tagged with a version a replica may not have reached yet
+        byte[] json = serialize(RoutingContext.callOnPrimary(() -> load(collection)));
+        byte[] gzip = gzip(json);
+        log.debug("Built {} snapshot v{}: {} bytes, {} gzipped, in {} ms", collection, version,
+                json.length, gzip.length, (System.nanoTime() - start) / 1_000_000);
+        return new Snapshot(version, catalogVersions.eTag(collection, version), json, gzip);
+    }
+
+    // Same bodies the controllers returned before the snapshots existed
+    private ApiResponse<?> load(CatalogCollection collection) {
+        return switch (collection) {
+            case AUTHORS -> {
+                List<AuthorDTO> authors = authorService.getAllAuthors();
+                yield new ApiResponse<>(HttpStatus.OK.value(), "Authors fetched successfully", authors, LocalDateTime.now());
+            }
+            case BOOKS -> {
+                List<BookDTO> books = bookService.getBooks();
+                yield new ApiResponse<>(HttpStatus.OK.value(), "Books fetched successfully", books, LocalDateTime.now());
+            }
+            case MAGAZINES -> {
+                List<MagazineDTO> magazines = magazineService.getAllMagazines();
+                yield new ApiResponse<>(HttpStatus.OK.value(), "Found " + magazines.size() + " magazines", magazines, LocalDateTime.now());
+            }
+        };
+    }
+
+    private byte[] serialize(ApiResponse<?> response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize snapshot", ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(json.length / 4, 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    // The two encodings are different representations, so they need different strong ETags
+    private static String variant(String eTag, boolean gzip) {
+        return gzip ? eTag.substring(0, eTag.length() - 1) + "-gzip\"" : eTag;
+    }
+
+    public record Snapshot(long version, String eTag, byte[] json, byte[] gzip) {
+    }
+}
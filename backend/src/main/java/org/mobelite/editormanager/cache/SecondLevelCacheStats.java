@@ -0,0 +1,72 @@
+package org.mobelite.editormanager.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.mobelite.editormanager.dto.CacheRegionStatsDTO;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-region hit, miss and put counts of the Hibernate second-level cache and query cache, read
+ * from Hibernate's statistics, with the current entry count taken from the Caffeine cache behind
+ * each region. Meant for tuning the limits in {@code hibernate-cache.conf}.
+ */
+@Component
+public class SecondLevelCacheStats {
+    private final SessionFactoryImplementor sessionFactory;
+
+    public SecondLevelCacheStats(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class).unwrap(SessionFactoryImplementor.class);
+    }
+
+    public List<CacheRegionStatsDTO> getRegionStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+
+        List<CacheRegionStatsDTO> stats = new ArrayList<>(regionNames.length);
+        for (String regionName : regionNames) {
+            // Null only when the second-level cache is switched off
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            long lookups = region.getHitCount() + region.getMissCount();
+            stats.add(new CacheRegionStatsDTO(
+                    regionName,
+                    size(regionName),
+                    region.getHitCount(),
+                    region.getMissCount(),
+                    region.getPutCount(),
+                    lookups == 0 ? 0 : (double) region.getHitCount() / lookups
+            ));
+        }
+        return stats;
+    }
+
+    // Hibernate's JCache regions do not report their size, so ask Caffeine directly
+    private long size(String regionName) {
+        if (!(sessionFactory.getCache().getRegionFactory() instanceof JCacheRegionFactory regionFactory)) {
+            return -1;
+        }
+        CacheManager cacheManager = regionFactory.getCacheManager();
+        Cache<Object, Object> cache = cacheManager.getCache(regionName);
+        if (cache == null) {
+            return -1;
+        }
+        try {
+            return cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize();
+        } catch (IllegalArgumentException ex) {
+            return -1;
+        }
+    }
+}
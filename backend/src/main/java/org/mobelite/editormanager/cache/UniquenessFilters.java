@@ -0,0 +1,113 @@
+package org.mobelite.editormanager.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
+import org.mobelite.editormanager.repositories.BookRepository;
+import org.mobelite.editormanager.repositories.MagazineRepository;
+import org.mobelite.editormanager.utils.CountingBloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Bloom filters over existing ISBNs and magazine issue numbers, letting the write paths skip
+ * their "already exists?" query when the answer is a certain no. A "maybe" still goes to the
+ * database, and the unique constraints on book.isbn and magazine.issue_number remain the final
+ * arbiter for inserts racing each other. Until the first build completes every answer is "maybe".
+ */
+@Slf4j
+@Component
+public class UniquenessFilters {
+    private final BookRepository bookRepository;
+    private final MagazineRepository magazineRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Object writeLock = new Object();
+
+    private volatile CountingBloomFilter<String> isbns;
+    private volatile CountingBloomFilter<Integer> issueNumbers;
+    private volatile boolean ready;
+
+    public UniquenessFilters(BookRepository bookRepository,
+                             MagazineRepository magazineRepository,
+                             @Value("${catalog.uniqueness-filters.expected-insertions:100000}") long expectedInsertions,
+                             @Value("${catalog.uniqueness-filters.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.bookRepository = bookRepository;
+        this.magazineRepository = magazineRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean mightContainIsbn(String isbn) {
+        return !ready || isbns.mightContain(BookLookupCache.normalize(isbn));
+    }
+
+    public boolean mightContainIssueNumber(int issueNumber) {
+        return !ready || issueNumbers.mightContain(issueNumber);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        synchronized (writeLock) {
+            ready = false;
+            try {
+                List<String> existingIsbns = bookRepository.findAllIsbns();
+                List<Integer> existingIssueNumbers = magazineRepository.findAllIssueNumbers();
+
+                // Leave room to grow so the false-positive rate holds until the next restart
+                isbns = new CountingBloomFilter<>(Math.max(expectedInsertions, 2L * existingIsbns.size()),
+                        falsePositiveRate, CountingBloomFilter::hash);
+                existingIsbns.forEach(isbn -> isbns.add(BookLookupCache.normalize(isbn)));
+                issueNumbers = new CountingBloomFilter<>(Math.max(expectedInsertions, 2L * existingIssueNumbers.size()),
+                        falsePositiveRate, issueNumber -> CountingBloomFilter.hash(issueNumber));
+                existingIssueNumbers.forEach(issueNumbers::add);
+
+                ready = true;
+                log.info("Uniqueness filters built for {} ISBNs and {} issue numbers",
+                        existingIsbns.size(), existingIssueNumbers.size());
+            } catch (RuntimeException ex) {
+                log.error("Uniqueness filter build failed, every uniqueness check will query the database", ex);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        synchronized (writeLock) {
+            if (!ready) {
+                return;
+            }
+            boolean created = event.getChange() == CatalogChangedEvent.Change.CREATED;
+            event.getBooks().forEach(book -> {
+                String isbn = BookLookupCache.normalize(book.getIsbn());
+                if (created) {
+                    isbns.add(isbn);
+                } else {
+                    isbns.remove(isbn);
+                }
+            });
+            event.getMagazines().forEach(magazine -> {
+                if (created) {
+                    issueNumbers.add(magazine.getIssueNumber());
+                } else {
+                    issueNumbers.remove(magazine.getIssueNumber());
+                }
+            });
+        }
+    }
+}
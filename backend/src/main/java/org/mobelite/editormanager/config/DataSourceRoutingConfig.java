@@ -0,0 +1,94 @@
+package org.mobelite.editormanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opt-in read/write split ({@code app.datasource.routing.enabled=true}). Read-only transactions
+ * go to the configured replicas and everything else to the primary; without the flag Boot's
+ * single auto-configured data source is left untouched. With replicas configured, read-only
+ * transactions also stop populating the second-level cache ({@link ReplicaCacheModeJpaDialect}).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, DataSourceRoutingProperties routing,
+                                 DataSourceProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < routing.replicas().size(); i++) {
+            HikariDataSource replica = replica(i, routing.replicas().get(i), routing, properties);
+            // Not beans, so Boot's pool metrics do not see them; report under the same hikaricp.* names
+            meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(replica);
+        }
+        log.info("Routing read-only transactions to {} replica(s)", replicas.size());
+        // The proxy defers fetching a connection to the first statement, by which time the
+        // transaction's read-only flag is known to the router
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primaryDataSource, replicas));
+    }
+
+    // Static: post-processors are created before the configuration's other beans
+    @Bean
+    public static BeanPostProcessor replicaCacheModeJpaDialect(ObjectProvider<DataSourceRoutingProperties> routing) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean entityManagerFactory
+                        && !routing.getObject().replicas().isEmpty()) {
+                    entityManagerFactory.setJpaDialect(new ReplicaCacheModeJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(DataSourceRoutingProperties routing) {
+        return new ReadYourWritesFilter(routing.stickyWindow());
+    }
+
+    private static HikariDataSource replica(int index, DataSourceRoutingProperties.Replica replica,
+                                            DataSourceRoutingProperties routing, DataSourceProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + index);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(replica.url());
+        dataSource.setUsername(replica.username() != null ? replica.username() : properties.determineUsername());
+        dataSource.setPassword(replica.password() != null ? replica.password() : properties.determinePassword());
+        dataSource.setMaximumPoolSize(routing.replicaPoolSize());
+        dataSource.setReadOnly(true);
+        // Do not block startup on a replica that is down; reads fall back to the primary meanwhile
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
@@ -0,0 +1,26 @@
+package org.mobelite.editormanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas under {@code app.datasource.routing}. The primary keeps its usual
+ * {@code spring.datasource.*} settings.
+ */
+@ConfigurationProperties("app.datasource.routing")
+public record DataSourceRoutingProperties(
+        boolean enabled,
+        @DefaultValue("5s") Duration stickyWindow,
+        @DefaultValue("10") int replicaPoolSize,
+        List<Replica> replicas) {
+
+    public DataSourceRoutingProperties {
+        replicas = replicas == null ? List.of() : List.copyOf(replicas);
+    }
+
+    public record Replica(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,49 @@
+package org.mobelite.editormanager.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Migrates tables whose ids used to come from AUTO_INCREMENT to the pooled id_generator table.
+ * Before anything is inserted, each generator segment is moved past the highest existing id,
+ * so ids handed out by Hibernate never collide with rows created under IDENTITY.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class IdGeneratorInitializer implements InitializingBean {
+    // Must match allocationSize of the @TableGenerator declarations
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        align("publication", "publication");
+        align("author", "author");
+    }
+
+    private void align(String segment, String table) {
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        // The pooled optimizer hands out (stored - allocationSize, stored], so this keeps every new id above maxId
+        long floor = (maxId == null ? 0 : maxId) + ALLOCATION_SIZE;
+
+        int updated = jdbcTemplate.update(
+                "update id_generator set next_val = ? where sequence_name = ? and next_val < ?",
+                floor, segment, floor);
+        Integer existing = jdbcTemplate.queryForObject(
+                "select count(*) from id_generator where sequence_name = ?", Integer.class, segment);
+
+        if (existing == null || existing == 0) {
+            jdbcTemplate.update("insert into id_generator (sequence_name, next_val) values (?, ?)", segment, floor);
+            log.info("Initialized id generator '{}' above existing max id {}", segment, maxId);
+        } else if (updated > 0) {
+            log.info("Moved id generator '{}' above existing max id {}", segment, maxId);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.mobelite.editormanager.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Read-your-writes for replica routing: a client that sends a write is served from the primary,
+ * reads included, for that request and for the sticky window after it, long enough for the
+ * replicas to catch up. Clients are told apart by address (first X-Forwarded-For hop when
+ * present), so no client cooperation is needed; clients sharing an address share the window,
+ * which only costs replica offload, never correctness.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration stickyWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = clientOf(request);
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+        if (!write && recentWriters.getIfPresent(client) == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RoutingContext.pin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RoutingContext.unpin();
+            if (write) {
+                // The window runs from the end of the write, not its start
+                recentWriters.put(client, Boolean.TRUE);
+            }
+        }
+    }
+
+    private static String clientOf(HttpServletRequest request) {
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded != null && !forwarded.isBlank()) {
+            int comma = forwarded.indexOf(',');
+            return (comma < 0 ? forwarded : forwarded.substring(0, comma)).trim();
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,55 @@
+package org.mobelite.editormanager.config;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.lang.Nullable;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Keeps rows read on a replica out of the shared second-level cache. A lagging replica can still
+ * return a row the primary has just deleted or changed; put into the cache once the write's soft
+ * lock is gone, it would be served to every client until it expires. Transactions that may be
+ * routed to a replica ({@link ReadWriteRoutingDataSource}) therefore run with {@link CacheMode#GET}:
+ * they still read the cache, but only primary sessions populate it. The previous mode is restored
+ * afterwards, as open-in-view sessions outlive the transaction.
+ */
+class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+    private static final String STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || RoutingContext.isPrimaryRequired()) {
+            return transactionData;
+        }
+        // Both: queries follow the session's cache mode, find() with hints reads the property
+        Session session = entityManager.unwrap(Session.class);
+        ReplicaTransactionData replica = new ReplicaTransactionData(transactionData, session,
+                session.getCacheMode(), session.getProperties().getOrDefault(STORE_MODE, CacheStoreMode.USE));
+        session.setProperty(STORE_MODE, CacheStoreMode.BYPASS);
+        session.setCacheMode(CacheMode.GET);
+        return replica;
+    }
+
+    @Override
+    public void cleanupTransaction(@Nullable Object transactionData) {
+        if (transactionData instanceof ReplicaTransactionData replica) {
+            replica.session().setProperty(STORE_MODE, replica.previousStoreMode());
+            replica.session().setCacheMode(replica.previousCacheMode());
+            super.cleanupTransaction(replica.delegate());
+        } else {
+            super.cleanupTransaction(transactionData);
+        }
+    }
+
+    private record ReplicaTransactionData(@Nullable Object delegate, Session session,
+                                          CacheMode previousCacheMode, Object previousStoreMode) {
+    }
+}
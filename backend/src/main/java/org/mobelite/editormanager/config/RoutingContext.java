@@ -0,0 +1,41 @@
+package org.mobelite.editormanager.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread override of the read/write routing: while a thread is pinned, even read-only
+ * transactions use the primary. Set for the whole request by {@link ReadYourWritesFilter}, and by
+ * code that must not read behind the primary (e.g. state rebuilt right after a commit).
+ * Without routing enabled it has no effect.
+ */
+public final class RoutingContext {
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private RoutingContext() {
+    }
+
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    public static <T> T callOnPrimary(Supplier<T> action) {
+        if (isPrimaryRequired()) {
+            return action.get();
+        }
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+
+    // For callers that cannot go through a Supplier; must be paired with unpin() in a finally block
+    static void pin() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    static void unpin() {
+        PRIMARY_REQUIRED.remove();
+    }
+}
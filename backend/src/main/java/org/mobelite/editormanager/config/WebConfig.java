@@ -3,6 +3,7 @@ package org.mobelite.editormanager.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -21,6 +22,7 @@ public class WebConfig {
           .allowedOrigins(frontendOrigin)
           .allowedMethods("*")
           .allowedHeaders("*")
+          .exposedHeaders(HttpHeaders.ETAG)
           .allowCredentials(true);
       }
     };
@@ -1,18 +1,25 @@
 package org.mobelite.editormanager.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.mobelite.editormanager.cache.ResponseSnapshots;
 import org.mobelite.editormanager.dto.ApiResponse;
 import org.mobelite.editormanager.dto.AuthorDTO;
-import org.mobelite.editormanager.mappers.AuthorMapper;
+import org.mobelite.editormanager.enums.CatalogCollection;
 import org.mobelite.editormanager.services.AuthorService;
+import org.mobelite.editormanager.utils.NdjsonWriter;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 
 @RestController
@@ -22,6 +29,8 @@ import java.util.List;
 public class AuthorController {
 
     private final AuthorService authorService;
+    private final ObjectMapper objectMapper;
+    private final ResponseSnapshots responseSnapshots;
 
     @Operation(summary = "Add a new Author")
     @PostMapping
@@ -37,22 +46,18 @@ public class AuthorController {
         );
     }
 
-    @Operation(summary = "Get all Authors")
+    @Operation(summary = "Get all Authors (answers 304 when If-None-Match carries the current ETag)")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<AuthorDTO>>> getAuthors() {
-        List<AuthorDTO> authors = authorService.getAllAuthors()
-                .stream()
-                .map(AuthorMapper::toDTO)
-                .toList();
+    public ResponseEntity<byte[]> getAuthors(WebRequest request) {
+        return responseSnapshots.respond(CatalogCollection.AUTHORS, request);
+    }
 
-        return ResponseEntity.ok(
-                new ApiResponse<>(
-                        HttpStatus.OK.value(),
-                        "Authors fetched successfully",
-                        authors,
-                        LocalDateTime.now()
-                )
-        );
+    @Operation(summary = "Stream all Authors as newline-delimited JSON (use include=books to embed their books)")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAuthors(@RequestParam(required = false) String include) {
+        boolean includeBooks = include != null && Arrays.asList(include.split(",")).contains("books");
+        StreamingResponseBody body = out -> authorService.streamAuthors(includeBooks, new NdjsonWriter<>(objectMapper, out));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @DeleteMapping("/{id}")
@@ -63,4 +68,13 @@ public class AuthorController {
         new ApiResponse<>(HttpStatus.OK.value(), "Author deleted successfully", null, LocalDateTime.now())
       );
     }
+
+    @DeleteMapping
+    @Operation(summary = "Delete up to " + AuthorService.MAX_BATCH_DELETE + " Authors, with their books, by ID")
+    public ResponseEntity<ApiResponse<Integer>> deleteAuthors(@RequestParam List<Long> ids) {
+      int deleted = authorService.deleteAuthors(ids);
+      return ResponseEntity.ok(
+        new ApiResponse<>(HttpStatus.OK.value(), "Deleted " + deleted + " authors", deleted, LocalDateTime.now())
+      );
+    }
 }
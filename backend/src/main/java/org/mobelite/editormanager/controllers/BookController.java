@@ -1,17 +1,33 @@
 package org.mobelite.editormanager.controllers;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.mobelite.editormanager.cache.ResponseSnapshots;
 import org.mobelite.editormanager.dto.ApiResponse;
+import org.mobelite.editormanager.dto.BookBatchResultDTO;
 import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.CursorPage;
+import org.mobelite.editormanager.dto.SliceDTO;
 import org.mobelite.editormanager.services.BookService;
+import org.mobelite.editormanager.enums.BatchItemStatus;
+import org.mobelite.editormanager.enums.CatalogCollection;
+import org.mobelite.editormanager.utils.NdjsonWriter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +40,8 @@ import java.util.Optional;
 public class BookController {
 
     private final BookService bookService;
+    private final ObjectMapper objectMapper;
+    private final ResponseSnapshots responseSnapshots;
 
     @Operation(summary = "Add a new Book")
     @PostMapping
@@ -35,15 +53,68 @@ public class BookController {
         );
     }
 
-    @Operation(summary = "Get all Books")
+    @Operation(summary = "Add many Books at once (JSON array)")
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<List<BookBatchResultDTO>>> createBooks(@RequestBody List<BookDTO> books) {
+        return batchResponse(bookService.addBooks(books));
+    }
+
+    @Operation(summary = "Add many Books at once (newline-delimited JSON)")
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ApiResponse<List<BookBatchResultDTO>>> createBooksFromNdjson(InputStream body) throws IOException {
+        // Lines are read as the service asks for the next chunk, so the feed is never buffered whole
+        try (MappingIterator<BookDTO> lines = objectMapper.readerFor(BookDTO.class).readValues(body)) {
+            return batchResponse(bookService.addBooks(lines));
+        }
+    }
+
+    private ResponseEntity<ApiResponse<List<BookBatchResultDTO>>> batchResponse(List<BookBatchResultDTO> results) {
+        long created = results.stream().filter(r -> r.getStatus() == BatchItemStatus.CREATED).count();
+        String message = "Processed " + results.size() + " books: " + created + " created, "
+                + (results.size() - created) + " rejected";
+        return ResponseEntity.ok(
+                new ApiResponse<>(HttpStatus.OK.value(), message, results, LocalDateTime.now())
+        );
+    }
+
+    @Operation(summary = "Get all Books (answers 304 when If-None-Match carries the current ETag)")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<BookDTO>>> getBooks() {
-        List<BookDTO> books = bookService.getBooks();
+    public ResponseEntity<byte[]> getBooks(WebRequest request) {
+        return responseSnapshots.respond(CatalogCollection.BOOKS, request);
+    }
+
+    @Operation(summary = "Get a page of Books ordered by id")
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<SliceDTO<BookDTO>>> getBooksPage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), BookService.MAX_PAGE_SIZE), Sort.by("id"));
+        SliceDTO<BookDTO> books = bookService.getBooksSlice(pageable);
+        return ResponseEntity.ok(
+                new ApiResponse<>(HttpStatus.OK.value(), "Books fetched successfully", books, LocalDateTime.now())
+        );
+    }
+
+    @Operation(summary = "Get Books with keyset pagination (pass nextCursor back as 'after')")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<BookDTO>>> getBooksByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPage<BookDTO> books = bookService.getBooksAfter(after, size);
         return ResponseEntity.ok(
                 new ApiResponse<>(HttpStatus.OK.value(), "Books fetched successfully", books, LocalDateTime.now())
         );
     }
 
+    @Operation(summary = "Stream all Books as newline-delimited JSON")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamBooks() {
+        StreamingResponseBody body = out -> bookService.streamBooks(new NdjsonWriter<>(objectMapper, out));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Operation(summary = "Get book by isbn")
     @GetMapping("/isbn/{isbn}")
     public ResponseEntity<ApiResponse<BookDTO>> getByIsbn(@PathVariable String isbn) {
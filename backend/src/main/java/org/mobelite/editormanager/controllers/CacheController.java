@@ -0,0 +1,75 @@
+package org.mobelite.editormanager.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.mobelite.editormanager.cache.BookLookupCache;
+import org.mobelite.editormanager.cache.RequestCoalescer;
+import org.mobelite.editormanager.cache.SecondLevelCacheStats;
+import org.mobelite.editormanager.dto.ApiResponse;
+import org.mobelite.editormanager.dto.CacheRegionStatsDTO;
+import org.mobelite.editormanager.dto.CacheStatsDTO;
+import org.mobelite.editormanager.dto.CoalescingStatsDTO;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "Inspect application caches")
+public class CacheController {
+    private final BookLookupCache bookLookupCache;
+    private final SecondLevelCacheStats secondLevelCacheStats;
+    private final RequestCoalescer requestCoalescer;
+
+    @Operation(summary = "Get hit, miss and eviction counts of the application caches")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<CacheStatsDTO>>> getCacheStats() {
+        List<CacheStatsDTO> stats = List.of(bookLookupCache.getStats());
+
+        ApiResponse<List<CacheStatsDTO>> response = new ApiResponse<>(
+                HttpStatus.OK.value(),
+                "Cache statistics fetched successfully",
+                stats,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get per-region hit ratios and sizes of the Hibernate second-level and query caches")
+    @GetMapping("/hibernate")
+    public ResponseEntity<ApiResponse<List<CacheRegionStatsDTO>>> getSecondLevelCacheStats() {
+        List<CacheRegionStatsDTO> stats = secondLevelCacheStats.getRegionStats();
+
+        ApiResponse<List<CacheRegionStatsDTO>> response = new ApiResponse<>(
+                HttpStatus.OK.value(),
+                "Second-level cache statistics fetched successfully",
+                stats,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get how many database reads were saved by sharing concurrent identical calls")
+    @GetMapping("/coalescing")
+    public ResponseEntity<ApiResponse<List<CoalescingStatsDTO>>> getCoalescingStats() {
+        List<CoalescingStatsDTO> stats = requestCoalescer.getStats();
+
+        ApiResponse<List<CoalescingStatsDTO>> response = new ApiResponse<>(
+                HttpStatus.OK.value(),
+                "Request coalescing statistics fetched successfully",
+                stats,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+}
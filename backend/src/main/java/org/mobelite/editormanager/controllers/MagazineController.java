@@ -4,15 +4,18 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.mobelite.editormanager.cache.ResponseSnapshots;
 import org.mobelite.editormanager.dto.ApiResponse;
+import org.mobelite.editormanager.dto.CursorPage;
 import org.mobelite.editormanager.dto.MagazineDTO;
+import org.mobelite.editormanager.enums.CatalogCollection;
 import org.mobelite.editormanager.services.MagazineService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @RestController
 @RequestMapping("/magazines")
@@ -21,6 +24,7 @@ import java.util.List;
 public class MagazineController {
 
     private final MagazineService magazineService;
+    private final ResponseSnapshots responseSnapshots;
 
     @Operation(summary = "Add a new Magazine")
     @PostMapping
@@ -36,17 +40,21 @@ public class MagazineController {
         );
     }
 
-    @Operation(summary = "Get all Magazines")
+    @Operation(summary = "Get all Magazines (answers 304 when If-None-Match carries the current ETag)")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<MagazineDTO>>> getAllMagazines() {
-        List<MagazineDTO> magazines = magazineService.getAllMagazines();
+    public ResponseEntity<byte[]> getAllMagazines(WebRequest request) {
+        return responseSnapshots.respond(CatalogCollection.MAGAZINES, request);
+    }
+
+    @Operation(summary = "Get Magazines with their authors using keyset pagination (pass nextCursor back as 'after')")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<MagazineDTO>>> getMagazinesByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPage<MagazineDTO> magazines = magazineService.getMagazinesAfter(after, size);
         return ResponseEntity.ok(
-                new ApiResponse<>(
-                        HttpStatus.OK.value(),
-                        "Found " + magazines.size() + " magazines",
-                        magazines,
-                        LocalDateTime.now()
-                )
+                new ApiResponse<>(HttpStatus.OK.value(), "Magazines fetched successfully", magazines, LocalDateTime.now())
         );
     }
 
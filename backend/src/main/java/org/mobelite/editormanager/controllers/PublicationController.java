@@ -4,32 +4,34 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.mobelite.editormanager.dto.ApiResponse;
-import org.mobelite.editormanager.dto.BookDTO;
-import org.mobelite.editormanager.dto.MagazineDTO;
+import org.mobelite.editormanager.dto.CursorPage;
+import org.mobelite.editormanager.dto.GroupedPublicationsDTO;
 import org.mobelite.editormanager.dto.PublicationDTO;
-import org.mobelite.editormanager.services.BookService;
-import org.mobelite.editormanager.services.MagazineService;
+import org.mobelite.editormanager.dto.SliceDTO;
+import org.mobelite.editormanager.dto.SuggestionDTO;
+import org.mobelite.editormanager.services.GroupedPublicationService;
+import org.mobelite.editormanager.services.PublicationCountService;
 import org.mobelite.editormanager.services.PublicationService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/publications")
 @RequiredArgsConstructor
 @Tag(name = "Publications", description = "Manage Publications")
 public class PublicationController {
-    private final MagazineService magazineService;
-    private final BookService bookService;
     private final PublicationService publicationService;
+    private final GroupedPublicationService groupedPublicationService;
+    private final PublicationCountService publicationCountService;
 
     @Operation(summary = "Get paginated Publications (Books + Magazines)")
     @GetMapping
@@ -50,17 +52,74 @@ public class PublicationController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Get all Publications grouped by Books and Magazines")
-    @GetMapping("/grouped")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getAllPublications() {
-        List<BookDTO> books = bookService.getBooks();
-        List<MagazineDTO> magazines = magazineService.getAllMagazines();
+    @Operation(summary = "Get a Slice of Publications without counting the whole catalog")
+    @GetMapping("/slice")
+    public ResponseEntity<ApiResponse<SliceDTO<PublicationDTO>>> getPublicationSlice(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        // Ordered by id so consecutive slices neither repeat nor skip rows
+        Pageable pageable = PageRequest.of(Math.max(page, 0),
+                Math.min(Math.max(size, 1), PublicationService.MAX_PAGE_SIZE), Sort.by("id"));
+        SliceDTO<PublicationDTO> publications = publicationService.getPublicationSlice(pageable);
+
+        ApiResponse<SliceDTO<PublicationDTO>> response = new ApiResponse<>(
+                HttpStatus.OK.value(),
+                "Publications fetched successfully",
+                publications,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get the cached total number of Publications")
+    @GetMapping("/count")
+    public ResponseEntity<ApiResponse<PublicationCountService.CountSnapshot>> getPublicationCount() {
+        PublicationCountService.CountSnapshot count = publicationCountService.getCount();
+
+        ApiResponse<PublicationCountService.CountSnapshot> response = new ApiResponse<>(
+                HttpStatus.OK.value(),
+                "Publication count fetched successfully",
+                count,
+                LocalDateTime.now()
+        );
 
-        Map<String, Object> groupedPublications = new HashMap<>();
-        groupedPublications.put("books", books);
-        groupedPublications.put("magazines", magazines);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get Publications with keyset pagination (pass nextCursor back as 'after')")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<PublicationDTO>>> getPublicationsByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorPage<PublicationDTO> publications = publicationService.getPublicationsAfter(after, size);
 
-        ApiResponse<Map<String, Object>> response = new ApiResponse<>(
+        ApiResponse<CursorPage<PublicationDTO>> response = new ApiResponse<>(
+                HttpStatus.OK.value(),
+                "Publications fetched successfully",
+                publications,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get a page of Books and a page of Magazines, loaded concurrently")
+    @GetMapping("/grouped")
+    public ResponseEntity<ApiResponse<GroupedPublicationsDTO>> getAllPublications(
+            @RequestParam(required = false) String booksAfter,
+            @RequestParam(required = false) String magazinesAfter,
+            @RequestParam(defaultValue = "" + PublicationService.MAX_PAGE_SIZE) int size,
+            // Leave out a list whose cursor came back null, so it is not read again from the start
+            @RequestParam(defaultValue = GroupedPublicationService.BOOKS + "," + GroupedPublicationService.MAGAZINES)
+            Set<String> include
+    ) {
+        GroupedPublicationsDTO groupedPublications =
+                groupedPublicationService.getGrouped(booksAfter, magazinesAfter, size, include);
+
+        ApiResponse<GroupedPublicationsDTO> response = new ApiResponse<>(
                 HttpStatus.OK.value(),
                 "Publications fetched successfully",
                 groupedPublications,
@@ -70,10 +129,14 @@ public class PublicationController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Search publications by title")
+    @Operation(summary = "Search publications by title, best matches first")
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<PublicationDTO>>> searchPublications(@RequestParam String title) {
-        List<PublicationDTO> results = publicationService.searchByTitle(title);
+    public ResponseEntity<ApiResponse<List<PublicationDTO>>> searchPublications(
+            @RequestParam String title,
+            @RequestParam(defaultValue = "" + PublicationService.DEFAULT_SEARCH_LIMIT) int limit,
+            @RequestParam(defaultValue = "0") int offset
+    ) {
+        List<PublicationDTO> results = publicationService.searchByTitle(title, limit, offset);
 
         ApiResponse<List<PublicationDTO>> response = new ApiResponse<>(
                 HttpStatus.OK.value(),
@@ -84,4 +147,22 @@ public class PublicationController {
 
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "Autocomplete titles and author names by prefix, most popular first")
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<SuggestionDTO>>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<SuggestionDTO> suggestions = publicationService.suggest(prefix, limit);
+
+        ApiResponse<List<SuggestionDTO>> response = new ApiResponse<>(
+                HttpStatus.OK.value(),
+                "Suggestions fetched successfully",
+                suggestions,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,27 @@
+package org.mobelite.editormanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuthorExportDTO {
+    private Long id;
+
+    private String name;
+
+    private LocalDate birthDate;
+
+    private String nationality;
+
+    private List<BookDTO> books;
+
+    public AuthorExportDTO(Long id, String name, LocalDate birthDate, String nationality) {
+        this(id, name, birthDate, nationality, null);
+    }
+}
@@ -0,0 +1,19 @@
+package org.mobelite.editormanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.mobelite.editormanager.enums.BatchItemStatus;
+
+@Data
+@AllArgsConstructor
+public class BookBatchResultDTO {
+    private int index;
+
+    private String isbn;
+
+    private BatchItemStatus status;
+
+    private Long id;
+
+    private String message;
+}
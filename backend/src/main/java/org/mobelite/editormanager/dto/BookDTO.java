@@ -30,4 +30,9 @@ public class BookDTO {
     @NotNull(message = "Publication date is required")
     @PastOrPresent(message = "Publication date cannot be in the future")
     private LocalDate publicationDate;
+
+    public BookDTO(Long id, String title, String isbn, Long authorId, String authorName,
+                   String authorNationality, LocalDate publicationDate) {
+        this(id, title, isbn, new AuthorBasicDTO(authorId, authorName, authorNationality), publicationDate);
+    }
 }
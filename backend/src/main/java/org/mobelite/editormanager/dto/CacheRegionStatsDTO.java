@@ -0,0 +1,21 @@
+package org.mobelite.editormanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CacheRegionStatsDTO {
+    private String region;
+
+    // Entries currently held, or -1 when the region cannot report it
+    private long size;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long putCount;
+
+    private double hitRate;
+}
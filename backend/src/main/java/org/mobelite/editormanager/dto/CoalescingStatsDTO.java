@@ -0,0 +1,17 @@
+package org.mobelite.editormanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CoalescingStatsDTO {
+    private String operation;
+
+    private long calls;
+
+    // Loads actually run; the other calls shared one of them
+    private long executions;
+
+    private long saved;
+}
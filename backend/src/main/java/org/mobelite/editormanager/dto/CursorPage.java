@@ -0,0 +1,18 @@
+package org.mobelite.editormanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+
+    private int size;
+
+    private boolean hasNext;
+
+    private String nextCursor;
+}
@@ -0,0 +1,19 @@
+package org.mobelite.editormanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class GroupedPublicationsDTO {
+    private List<BookDTO> books;
+
+    private List<MagazineDTO> magazines;
+
+    // Pass back as booksAfter / magazinesAfter; null once that side is exhausted
+    private String booksNextCursor;
+
+    private String magazinesNextCursor;
+}
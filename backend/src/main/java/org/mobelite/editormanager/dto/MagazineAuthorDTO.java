@@ -0,0 +1,17 @@
+package org.mobelite.editormanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** One magazine_author row joined to its author, used to attach authors to a page of magazines. */
+@Data
+@AllArgsConstructor
+public class MagazineAuthorDTO {
+    private Long magazineId;
+
+    private Long authorId;
+
+    private String name;
+
+    private String nationality;
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @Data
@@ -14,4 +15,8 @@ public class MagazineDTO {
     private String title;
     private LocalDate publishedDate;
     private List<AuthorBasicDTO> authors;
+
+    public MagazineDTO(Long id, int issueNumber, String title, LocalDate publishedDate) {
+        this(id, issueNumber, title, publishedDate, new ArrayList<>());
+    }
 }
@@ -0,0 +1,23 @@
+package org.mobelite.editormanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class SliceDTO<T> {
+    private List<T> content;
+
+    private int page;
+
+    private int size;
+
+    private boolean hasNext;
+
+    public static <T> SliceDTO<T> of(Slice<T> slice) {
+        return new SliceDTO<>(slice.getContent(), slice.getNumber(), slice.getNumberOfElements(), slice.hasNext());
+    }
+}
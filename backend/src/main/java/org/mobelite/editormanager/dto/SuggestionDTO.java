@@ -0,0 +1,15 @@
+package org.mobelite.editormanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.mobelite.editormanager.enums.SuggestionType;
+
+@Data
+@AllArgsConstructor
+public class SuggestionDTO {
+    private String text;
+
+    private SuggestionType type;
+
+    private long popularity;
+}
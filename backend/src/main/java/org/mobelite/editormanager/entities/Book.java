@@ -6,12 +6,18 @@ import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
 
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 @DiscriminatorValue("BOOK")
+@Table(
+        name = "book",
+        indexes = @Index(name = "idx_book_author_id", columnList = "author_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_book_isbn", columnNames = "isbn")
+)
 public class Book extends Publication {
     @NotBlank(message = "ISBN is required")
     private String isbn;
@@ -24,7 +30,8 @@ public class Book extends Publication {
 
     @PreRemove
     private void removeBookFromAuthor() {
-      if (author != null) {
+      // Only keep an already loaded collection in sync; never load a whole bibliography to remove one book
+      if (author != null && author.getBooks() != null && Hibernate.isInitialized(author.getBooks())) {
         author.getBooks().remove(this);
       }
     }
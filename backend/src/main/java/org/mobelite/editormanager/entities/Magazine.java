@@ -6,6 +6,8 @@ import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
@@ -14,6 +16,7 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @DiscriminatorValue("MAGAZINE")
+@Table(name = "magazine", uniqueConstraints = @UniqueConstraint(name = "uk_magazine_issue_number", columnNames = "issue_number"))
 public class Magazine extends Publication{
 
     @Min(value = 1, message = "Issue number must be at least 1")
@@ -22,6 +25,7 @@ public class Magazine extends Publication{
     @NotEmpty(message = "At least one author is required")
     @Valid
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "magazine-authors")
     @JoinTable(
             name = "magazine_author",
             joinColumns = @JoinColumn(name = "magazine_id"),
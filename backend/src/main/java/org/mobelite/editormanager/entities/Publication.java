@@ -5,6 +5,8 @@ import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
@@ -12,13 +14,18 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
-@Table(name = "publication")
+@Table(name = "publication", indexes = @Index(name = "idx_publication_title_id", columnList = "title, id"))
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "type")
+// Declared on the root: Book and Magazine are cached in this region too
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "publication")
 public abstract class Publication {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "publication_id")
+    @TableGenerator(name = "publication_id", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "publication", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
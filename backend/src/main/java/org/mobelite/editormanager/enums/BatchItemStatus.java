@@ -0,0 +1,8 @@
+package org.mobelite.editormanager.enums;
+
+public enum BatchItemStatus {
+    CREATED,
+    INVALID,
+    DUPLICATE_ISBN,
+    AUTHOR_NOT_FOUND
+}
@@ -0,0 +1,7 @@
+package org.mobelite.editormanager.enums;
+
+public enum CatalogCollection {
+    AUTHORS,
+    BOOKS,
+    MAGAZINES
+}
@@ -0,0 +1,6 @@
+package org.mobelite.editormanager.enums;
+
+public enum SuggestionType {
+    TITLE,
+    AUTHOR
+}
@@ -0,0 +1,56 @@
+package org.mobelite.editormanager.events;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.MagazineDTO;
+
+import java.util.List;
+
+/**
+ * Published by the services after every catalog write. Listeners that keep derived, in-memory
+ * views of the catalog (search indexes, caches) use it to stay in sync without querying back.
+ * Deletions carry the state captured before the rows were removed.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CatalogChangedEvent {
+
+    public enum Change {
+        CREATED,
+        DELETED
+    }
+
+    private final Change change;
+    private final List<AuthorBasicDTO> authors;
+    private final List<BookDTO> books;
+    private final List<MagazineDTO> magazines;
+
+    public static CatalogChangedEvent booksCreated(List<BookDTO> books) {
+        return new CatalogChangedEvent(Change.CREATED, List.of(), books, List.of());
+    }
+
+    public static CatalogChangedEvent booksDeleted(List<BookDTO> books) {
+        return new CatalogChangedEvent(Change.DELETED, List.of(), books, List.of());
+    }
+
+    public static CatalogChangedEvent magazineCreated(MagazineDTO magazine) {
+        return new CatalogChangedEvent(Change.CREATED, List.of(), List.of(), List.of(magazine));
+    }
+
+    public static CatalogChangedEvent magazineDeleted(MagazineDTO magazine) {
+        return new CatalogChangedEvent(Change.DELETED, List.of(), List.of(), List.of(magazine));
+    }
+
+    public static CatalogChangedEvent authorsCreated(List<AuthorBasicDTO> authors, List<BookDTO> books) {
+        return new CatalogChangedEvent(Change.CREATED, authors, books, List.of());
+    }
+
+    public static CatalogChangedEvent authorsDeleted(List<AuthorBasicDTO> authors, List<BookDTO> books) {
+        return new CatalogChangedEvent(Change.DELETED, authors, books, List.of());
+    }
+}
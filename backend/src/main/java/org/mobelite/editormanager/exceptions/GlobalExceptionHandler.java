@@ -1,10 +1,13 @@
 package org.mobelite.editormanager.exceptions;
 
 import org.mobelite.editormanager.dto.ApiResponse;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -19,6 +22,17 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
     }
 
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ApiResponse<Object>> handleResponseStatusException(ResponseStatusException ex) {
+        return buildResponse(ex.getStatusCode(), ex.getReason());
+    }
+
+    // Unique constraints are the last line behind the in-memory pre-checks (e.g. two concurrent inserts of one ISBN)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse<Object>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        return buildResponse(HttpStatus.CONFLICT, "Conflicts with existing data: " + ex.getMostSpecificCause().getMessage());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Object>> handleValidationException(MethodArgumentNotValidException ex) {
         String errorMessage = ex.getBindingResult().getFieldErrors().stream()
@@ -43,7 +57,7 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected error: " + ex.getMessage());
     }
 
-    private ResponseEntity<ApiResponse<Object>> buildResponse(HttpStatus status, String message) {
+    private ResponseEntity<ApiResponse<Object>> buildResponse(HttpStatusCode status, String message) {
         return ResponseEntity.status(status).body(
                 new ApiResponse<>(status.value(), message, null, LocalDateTime.now())
         );
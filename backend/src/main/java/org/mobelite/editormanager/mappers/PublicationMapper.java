@@ -1,5 +1,7 @@
 package org.mobelite.editormanager.mappers;
 
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.MagazineDTO;
 import org.mobelite.editormanager.dto.PublicationDTO;
 import org.mobelite.editormanager.entities.Book;
 import org.mobelite.editormanager.entities.Magazine;
@@ -24,4 +26,12 @@ public class PublicationMapper {
                 publication.getPublicationDate()
         );
     }
-}
\ No newline at end of file
+
+    public static PublicationDTO fromBook(BookDTO book) {
+        return new PublicationDTO(book.getId(), PublicationType.BOOK, book.getTitle(), book.getPublicationDate());
+    }
+
+    public static PublicationDTO fromMagazine(MagazineDTO magazine) {
+        return new PublicationDTO(magazine.getId(), PublicationType.MAGAZINE, magazine.getTitle(), magazine.getPublishedDate());
+    }
+}
@@ -1,10 +1,51 @@
 package org.mobelite.editormanager.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.AuthorExportDTO;
+import org.mobelite.editormanager.dto.SuggestionDTO;
 import org.mobelite.editormanager.entities.Author;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface AuthorRepository extends JpaRepository<Author, Long> {
+public interface AuthorRepository extends JpaRepository<Author, Long>, AuthorRepositoryCustom {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query-author-by-name")
+    })
     Optional<Author> findAuthorByName(String name);
+
+    @EntityGraph(Author.WITH_BOOKS)
+    @Query("select a from Author a")
+    List<Author> findAllWithBooks();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new org.mobelite.editormanager.dto.AuthorExportDTO(a.id, a.name, a.birthDate, a.nationality) " +
+            "from Author a order by a.id")
+    Stream<AuthorExportDTO> streamAllForExport();
+
+    @Query("select new org.mobelite.editormanager.dto.AuthorBasicDTO(a.id, a.name, a.nationality) " +
+            "from Author a where a.id in :ids")
+    List<AuthorBasicDTO> findBasicByIds(@Param("ids") Collection<Long> ids);
+
+    // Without the table hint Hibernate cannot tell what a native statement touches and evicts every cache region
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "magazine_author"))
+    @Query(value = "delete from magazine_author where author_id in (:authorIds)", nativeQuery = true)
+    int deleteMagazineLinksByAuthorIds(@Param("authorIds") Collection<Long> authorIds);
+
+    @Query("select new org.mobelite.editormanager.dto.SuggestionDTO(a.name, org.mobelite.editormanager.enums.SuggestionType.AUTHOR, count(a)) " +
+            "from Author a group by a.name")
+    List<SuggestionDTO> countNamesForSuggestions();
+
 }
@@ -0,0 +1,14 @@
+package org.mobelite.editormanager.repositories;
+
+import org.mobelite.editormanager.entities.Author;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AuthorRepositoryCustom {
+    /**
+     * Like {@code findAllById}, but authors already in the second-level cache are taken from it and
+     * only the rest are selected (in one IN query). Unknown ids are left out of the result.
+     */
+    List<Author> loadAllById(Collection<Long> ids);
+}
@@ -0,0 +1,38 @@
+package org.mobelite.editormanager.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.mobelite.editormanager.entities.Author;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+class AuthorRepositoryCustomImpl implements AuthorRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Custom fragments get no transaction from the repository; without one the shared
+    // EntityManager would hand out a Session that is already closed
+    @Override
+    @Transactional(readOnly = true)
+    public List<Author> loadAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // findAllById is a plain IN query and never consults the second-level cache. multiLoad does,
+        // but only with the cache and session checks switched on; it then selects just the misses
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Author.class)
+                .with(CacheMode.NORMAL)
+                .enableSessionCheck(true)
+                .multiLoad(new ArrayList<>(ids))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -1,16 +1,67 @@
 package org.mobelite.editormanager.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.SuggestionDTO;
 import org.mobelite.editormanager.entities.Book;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
+    @EntityGraph(attributePaths = "author")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query-book-by-isbn")
+    })
     Optional<Book> findByIsbn(String isbn);
 
     boolean existsByIsbn(String isbn);
 
+    @Query("select b.isbn from Book b")
+    List<String> findAllIsbns();
+
+    @Query("select b.isbn from Book b where b.isbn in :isbns")
+    List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
     List<Book> findByTitleContainingIgnoreCase(String title);
 
+    @Override
+    @EntityGraph(attributePaths = "author")
+    List<Book> findAll();
+
+    @EntityGraph(attributePaths = "author")
+    Slice<Book> findAllBy(Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    List<Book> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new org.mobelite.editormanager.dto.BookDTO(b.id, b.title, b.isbn, a.id, a.name, a.nationality, b.publicationDate) " +
+            "from Book b join b.author a order by b.id")
+    Stream<BookDTO> streamAllAsDTO();
+
+    @Query("select new org.mobelite.editormanager.dto.BookDTO(b.id, b.title, b.isbn, a.id, a.name, a.nationality, b.publicationDate) " +
+            "from Book b join b.author a where a.id in :authorIds order by a.id, b.id")
+    List<BookDTO> findDTOsByAuthorIds(@Param("authorIds") Collection<Long> authorIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Book b where b.author.id in :authorIds")
+    int deleteByAuthorIds(@Param("authorIds") Collection<Long> authorIds);
+
+    @Query("select new org.mobelite.editormanager.dto.SuggestionDTO(b.title, org.mobelite.editormanager.enums.SuggestionType.TITLE, count(b)) " +
+            "from Book b group by b.title")
+    List<SuggestionDTO> countTitlesForSuggestions();
+
 }
@@ -1,16 +1,43 @@
 package org.mobelite.editormanager.repositories;
 
+import org.mobelite.editormanager.dto.MagazineAuthorDTO;
+import org.mobelite.editormanager.dto.MagazineDTO;
+import org.mobelite.editormanager.dto.SuggestionDTO;
 import org.mobelite.editormanager.entities.Magazine;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface MagazineRepository extends JpaRepository<Magazine, Long> {
 
+    @Override
+    @EntityGraph(attributePaths = "authors")
+    List<Magazine> findAll();
+
     boolean existsMagazineByIssueNumber(int issueNumber);
 
     List<Magazine> findMagazineByIssueNumber(int issueNumber);
 
+    @Query("select m.issueNumber from Magazine m")
+    List<Integer> findAllIssueNumbers();
+
     List<Magazine> findByTitleContainingIgnoreCase(String title);
 
+    @Query("select new org.mobelite.editormanager.dto.MagazineDTO(m.id, m.issueNumber, m.title, m.publicationDate) " +
+            "from Magazine m where m.id > :id order by m.id")
+    List<MagazineDTO> findPageAfter(@Param("id") Long id, Pageable pageable);
+
+    @Query("select new org.mobelite.editormanager.dto.MagazineAuthorDTO(m.id, a.id, a.name, a.nationality) " +
+            "from Magazine m join m.authors a where m.id in :magazineIds order by m.id, a.id")
+    List<MagazineAuthorDTO> findAuthorsByMagazineIds(@Param("magazineIds") Collection<Long> magazineIds);
+
+    @Query("select new org.mobelite.editormanager.dto.SuggestionDTO(m.title, org.mobelite.editormanager.enums.SuggestionType.TITLE, count(m)) " +
+            "from Magazine m group by m.title")
+    List<SuggestionDTO> countTitlesForSuggestions();
+
 }
@@ -1,8 +1,38 @@
 package org.mobelite.editormanager.repositories;
 
+import org.mobelite.editormanager.dto.PublicationDTO;
 import org.mobelite.editormanager.entities.Publication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 
 public interface PublicationRepository extends JpaRepository<Publication, Long> {
-}
\ No newline at end of file
+
+    Slice<Publication> findAllBy(Pageable pageable);
+
+    List<Publication> findAllByOrderByTitleAscIdAsc(Pageable pageable);
+
+    @Query("select p from Publication p " +
+            "where p.title > :title or (p.title = :title and p.id > :id) " +
+            "order by p.title asc, p.id asc")
+    List<Publication> findPageAfter(@Param("title") String title, @Param("id") Long id, Pageable pageable);
+
+    String AS_DTO = "select new org.mobelite.editormanager.dto.PublicationDTO(p.id, " +
+            "case when type(p) = Book then org.mobelite.editormanager.enums.PublicationType.BOOK " +
+            "when type(p) = Magazine then org.mobelite.editormanager.enums.PublicationType.MAGAZINE " +
+            "else org.mobelite.editormanager.enums.PublicationType.UNKNOWN end, " +
+            "p.title, p.publicationDate) from Publication p";
+
+    @Query(AS_DTO)
+    List<PublicationDTO> findAllAsDTO();
+
+    // One round trip over both subtypes, projected so no Book/Author entities are hydrated.
+    // The caller escapes %, _ and ! in the term with '!' (a backslash would need quoting on MySQL)
+    @Query(AS_DTO + " where lower(p.title) like lower(concat('%', :title, '%')) escape '!'")
+    List<PublicationDTO> searchByTitleAsDTO(@Param("title") String title);
+}
@@ -0,0 +1,111 @@
+package org.mobelite.editormanager.search;
+
+import org.mobelite.editormanager.dto.PublicationDTO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.regex.Pattern;
+
+/**
+ * Scores titles against one query. A phrase match always wins, with exact beating prefix and
+ * prefix beating infix. Within a tier, and for titles that only contain the query terms
+ * separately, BM25 weighting over the terms breaks ties so rare terms count for more.
+ */
+public class RelevanceScorer {
+    static final int EXACT = 3;
+    static final int PREFIX = 2;
+    static final int INFIX = 1;
+    static final int TERMS_ONLY = 0;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final String query;
+    private final List<String> terms;
+    private final double[] idf;
+    private final double averageLength;
+
+    public RelevanceScorer(String normalizedQuery, ToIntFunction<String> documentFrequency,
+                           int documentCount, double averageLength) {
+        this.query = normalizedQuery;
+        this.terms = terms(normalizedQuery);
+        this.averageLength = averageLength > 0 ? averageLength : 1;
+        this.idf = new double[terms.size()];
+        for (int i = 0; i < terms.size(); i++) {
+            int df = documentFrequency.applyAsInt(terms.get(i));
+            idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+        }
+    }
+
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    public boolean matches(String normalizedTitle) {
+        for (String term : terms) {
+            if (!normalizedTitle.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Scored score(PublicationDTO publication, String normalizedTitle) {
+        return score(publication, normalizedTitle, terms(normalizedTitle));
+    }
+
+    /** For callers that already split the title, e.g. to compute the average length. */
+    public Scored score(PublicationDTO publication, String normalizedTitle, List<String> titleTokens) {
+        int tier;
+        if (normalizedTitle.equals(query)) {
+            tier = EXACT;
+        } else if (normalizedTitle.startsWith(query)) {
+            tier = PREFIX;
+        } else if (normalizedTitle.contains(query)) {
+            tier = INFIX;
+        } else {
+            tier = TERMS_ONLY;
+        }
+
+        double lengthNorm = 1 - B + B * titleTokens.size() / averageLength;
+        double relevance = 0;
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            int tf = 0;
+            for (String token : titleTokens) {
+                if (token.contains(term)) {
+                    tf++;
+                }
+            }
+            if (tf == 0 && normalizedTitle.contains(term)) {
+                // Term spans a token boundary (e.g. "a mo"): still a match, weigh it once
+                tf = 1;
+            }
+            relevance += idf[i] * (tf * (K1 + 1)) / (tf + K1 * lengthNorm);
+        }
+        return new Scored(publication, tier, relevance);
+    }
+
+    public static List<String> terms(String normalized) {
+        // Titles split into a handful of terms: a list lookup dedupes them without a set
+        String[] parts = SEPARATOR.split(normalized);
+        List<String> terms = new ArrayList<>(parts.length);
+        for (String part : parts) {
+            if (!part.isEmpty() && !terms.contains(part)) {
+                terms.add(part);
+            }
+        }
+        return Collections.unmodifiableList(terms);
+    }
+
+    public record Scored(PublicationDTO publication, int tier, double relevance) {
+        public static final Comparator<Scored> BEST_FIRST = Comparator
+                .comparingInt(Scored::tier).reversed()
+                .thenComparing(Comparator.comparingDouble(Scored::relevance).reversed())
+                .thenComparing(scored -> scored.publication().getId(), Comparator.nullsLast(Comparator.<Long>naturalOrder()));
+    }
+}
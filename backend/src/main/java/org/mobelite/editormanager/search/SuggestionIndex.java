@@ -0,0 +1,194 @@
+package org.mobelite.editormanager.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.mobelite.editormanager.dto.SuggestionDTO;
+import org.mobelite.editormanager.enums.SuggestionType;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
+import org.mobelite.editormanager.repositories.AuthorRepository;
+import org.mobelite.editormanager.repositories.BookRepository;
+import org.mobelite.editormanager.repositories.MagazineRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix completions over publication titles and author names, served from a {@link SuggestionTrie}
+ * and ranked by popularity: how many catalog rows carry the text plus how often it was searched.
+ * Built at startup and kept in sync from {@link CatalogChangedEvent}s. New keys are refused once
+ * the estimated footprint reaches the configured budget; the build inserts the most popular keys
+ * first so those are the ones that fit.
+ */
+@Slf4j
+@Component
+public class SuggestionIndex {
+    public static final int MAX_SUGGESTIONS = 50;
+    // Distinct texts waiting for the next flush; further new texts are dropped until it runs
+    static final int MAX_PENDING_HITS = 10_000;
+
+    private final BookRepository bookRepository;
+    private final MagazineRepository magazineRepository;
+    private final AuthorRepository authorRepository;
+    private final long memoryBudgetBytes;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Searches are counted here and applied in batches, so the search path never takes the write lock
+    private final Map<String, Long> pendingHits = new ConcurrentHashMap<>();
+
+    private SuggestionTrie trie = new SuggestionTrie();
+    private long refused;
+    private volatile boolean ready;
+
+    public SuggestionIndex(BookRepository bookRepository,
+                           MagazineRepository magazineRepository,
+                           AuthorRepository authorRepository,
+                           @Value("${publications.suggest.memory-budget-bytes:16777216}") long memoryBudgetBytes) {
+        this.bookRepository = bookRepository;
+        this.magazineRepository = magazineRepository;
+        this.authorRepository = authorRepository;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            trie = new SuggestionTrie();
+            refused = 0;
+
+            long start = System.nanoTime();
+            List<SuggestionDTO> sources = new ArrayList<>();
+            sources.addAll(bookRepository.countTitlesForSuggestions());
+            sources.addAll(magazineRepository.countTitlesForSuggestions());
+            sources.addAll(authorRepository.countNamesForSuggestions());
+            sources.sort(Comparator.comparingLong(SuggestionDTO::getPopularity).reversed());
+            sources.forEach(source -> add(source.getText(), source.getType(), source.getPopularity()));
+
+            ready = true;
+            log.info("Suggestion index built with {} keys (~{} KiB, {} refused over budget) in {} ms",
+                    trie.size(), trie.estimatedBytes() / 1024, refused, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            log.error("Suggestion index build failed, /publications/suggest will return no completions", ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            boolean created = event.getChange() == CatalogChangedEvent.Change.CREATED;
+            event.getAuthors().forEach(author -> apply(created, author.getName(), SuggestionType.AUTHOR));
+            event.getBooks().forEach(book -> apply(created, book.getTitle(), SuggestionType.TITLE));
+            event.getMagazines().forEach(magazine -> apply(created, magazine.getTitle(), SuggestionType.TITLE));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        String normalized = TitleSearchIndex.normalize(prefix);
+        if (!ready || normalized.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return trie.complete(normalized, Math.min(Math.max(limit, 1), MAX_SUGGESTIONS));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts a search for the exact text towards the popularity of its suggestions. The count is
+     * buffered and only shows in the ranking after the next {@link #flushHits()}.
+     */
+    public void recordHit(String text) {
+        String normalized = TitleSearchIndex.normalize(text);
+        if (!ready || normalized.isEmpty()) {
+            return;
+        }
+        if (pendingHits.size() >= MAX_PENDING_HITS && !pendingHits.containsKey(normalized)) {
+            return;
+        }
+        pendingHits.merge(normalized, 1L, Long::sum);
+    }
+
+    /** Applies the buffered search counts under a single write lock. */
+    @Scheduled(fixedDelayString = "${publications.suggest.hit-flush-interval-ms:1000}")
+    public void flushHits() {
+        if (!ready || pendingHits.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (String key : pendingHits.keySet()) {
+                // remove() hands over exactly the hits merged so far; later ones start a new count
+                Long hits = pendingHits.remove(key);
+                if (hits != null) {
+                    trie.recordHits(key, hits);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Stats getStats() {
+        lock.readLock().lock();
+        try {
+            return new Stats(trie.size(), trie.estimatedBytes(), memoryBudgetBytes, refused);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(boolean created, String text, SuggestionType type) {
+        if (created) {
+            add(text, type, 1);
+        } else {
+            String key = TitleSearchIndex.normalize(text);
+            if (!key.isEmpty()) {
+                trie.remove(key, type, 1);
+            }
+        }
+    }
+
+    private void add(String text, SuggestionType type, long count) {
+        String key = TitleSearchIndex.normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        if (!trie.contains(key, type)
+                && trie.estimatedBytes() + SuggestionTrie.estimateCost(key, text) > memoryBudgetBytes) {
+            refused++;
+            return;
+        }
+        trie.add(key, type, text.trim(), count);
+    }
+
+    public record Stats(int keys, long estimatedBytes, long budgetBytes, long refused) {
+    }
+}
@@ -0,0 +1,346 @@
+package org.mobelite.editormanager.search;
+
+import org.mobelite.editormanager.dto.SuggestionDTO;
+import org.mobelite.editormanager.enums.SuggestionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Radix (path-compressed) trie over normalized keys. Each node caches the best popularity found
+ * in its subtree, so the top-N completions of a prefix are read best-first and the walk stops
+ * after N entries instead of visiting every key under the prefix. Not thread-safe; see
+ * {@link SuggestionIndex} for the locking.
+ */
+public class SuggestionTrie {
+    // Rough per-object footprints on a 64-bit JVM with compressed oops, used for the memory budget
+    static final int NODE_BYTES = 96;
+    static final int ENTRY_BYTES = 72;
+
+    private static final char[] NO_CHARS = new char[0];
+    private static final Node[] NO_NODES = new Node[0];
+
+    private final Node root = new Node("");
+    private int size;
+    private long estimatedBytes = NODE_BYTES;
+
+    public int size() {
+        return size;
+    }
+
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    public boolean contains(String key, SuggestionType type) {
+        Node node = find(key, null);
+        return node != null && node.entry(type) != null;
+    }
+
+    /** What adding a new key would cost at most: a fresh leaf, a split node and the entry. */
+    public static long estimateCost(String key, String text) {
+        return 2L * NODE_BYTES + ENTRY_BYTES + 2L * key.length() + 2L * text.length();
+    }
+
+    public void add(String key, SuggestionType type, String text, long count) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            int slot = node.slotOf(key.charAt(i));
+            if (slot < 0) {
+                Node leaf = new Node(key.substring(i));
+                node.addChild(leaf);
+                estimatedBytes += NODE_BYTES + 2L * leaf.label.length();
+                node = leaf;
+                path.add(node);
+                break;
+            }
+
+            Node child = node.children[slot];
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                // Split the edge so the key can end (or branch) in the middle of it
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.addChild(child);
+                middle.best = child.best;
+                node.children[slot] = middle;
+                estimatedBytes += NODE_BYTES;
+                child = middle;
+            }
+            node = child;
+            path.add(node);
+            i += common;
+        }
+
+        Entry entry = node.entry(type);
+        if (entry == null) {
+            entry = new Entry(type, text);
+            node.setEntry(entry);
+            size++;
+            estimatedBytes += ENTRY_BYTES + 2L * text.length();
+        }
+        entry.count += count;
+        refresh(path);
+    }
+
+    public void remove(String key, SuggestionType type, long count) {
+        List<Node> path = new ArrayList<>();
+        Node node = find(key, path);
+        Entry entry = node == null ? null : node.entry(type);
+        if (entry == null) {
+            return;
+        }
+
+        entry.count -= count;
+        if (entry.count <= 0) {
+            node.clearEntry(type);
+            size--;
+            estimatedBytes -= ENTRY_BYTES + 2L * entry.text.length();
+            compact(path);
+        }
+        refresh(path);
+    }
+
+    public boolean recordHit(String key) {
+        return recordHits(key, 1);
+    }
+
+    public boolean recordHits(String key, long hits) {
+        List<Node> path = new ArrayList<>();
+        Node node = find(key, path);
+        if (node == null || node.entries == null) {
+            return false;
+        }
+        for (Entry entry : node.entries) {
+            if (entry != null) {
+                entry.hits += hits;
+            }
+        }
+        refresh(path);
+        return true;
+    }
+
+    public List<SuggestionDTO> complete(String prefix, int limit) {
+        Node start = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int slot = start.slotOf(prefix.charAt(i));
+            if (slot < 0) {
+                return List.of();
+            }
+            Node child = start.children[slot];
+            int remaining = prefix.length() - i;
+            if (child.label.length() <= remaining) {
+                if (!prefix.startsWith(child.label, i)) {
+                    return List.of();
+                }
+                i += child.label.length();
+            } else {
+                // Prefix ends inside this edge: everything below the child completes it
+                if (!child.label.startsWith(prefix.substring(i))) {
+                    return List.of();
+                }
+                i = prefix.length();
+            }
+            start = child;
+        }
+
+        List<SuggestionDTO> completions = new ArrayList<>();
+        PriorityQueue<Candidate> frontier = new PriorityQueue<>(Candidate.BEST_FIRST);
+        frontier.add(new Candidate(start.best, start, null));
+        while (!frontier.isEmpty() && completions.size() < limit) {
+            Candidate next = frontier.poll();
+            if (next.entry != null) {
+                completions.add(new SuggestionDTO(next.entry.text, next.entry.type, next.entry.score()));
+                continue;
+            }
+            if (next.node.entries != null) {
+                for (Entry entry : next.node.entries) {
+                    if (entry != null) {
+                        frontier.add(new Candidate(entry.score(), null, entry));
+                    }
+                }
+            }
+            for (Node child : next.node.children) {
+                frontier.add(new Candidate(child.best, child, null));
+            }
+        }
+        return completions;
+    }
+
+    // Walks the exact key; fills path (root first) when one is given
+    private Node find(String key, List<Node> path) {
+        Node node = root;
+        if (path != null) {
+            path.add(node);
+        }
+        int i = 0;
+        while (i < key.length()) {
+            int slot = node.slotOf(key.charAt(i));
+            if (slot < 0) {
+                return null;
+            }
+            node = node.children[slot];
+            if (!key.startsWith(node.label, i)) {
+                return null;
+            }
+            i += node.label.length();
+            if (path != null) {
+                path.add(node);
+            }
+        }
+        return node;
+    }
+
+    // Drops the now-empty leaf and re-merges single-child chains left behind by the removal
+    private void compact(List<Node> path) {
+        for (int depth = path.size() - 1; depth > 0; depth--) {
+            Node node = path.get(depth);
+            Node parent = path.get(depth - 1);
+            if (node.entries != null) {
+                return;
+            }
+            if (node.children.length == 0) {
+                parent.removeChild(node.label.charAt(0));
+                estimatedBytes -= NODE_BYTES + 2L * node.label.length();
+                path.remove(depth);
+            } else if (node.children.length == 1) {
+                Node child = node.children[0];
+                node.label = node.label + child.label;
+                node.firsts = child.firsts;
+                node.children = child.children;
+                node.entries = child.entries;
+                estimatedBytes -= NODE_BYTES;
+                return;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static void refresh(List<Node> path) {
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            path.get(depth).refreshBest();
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int common = 0;
+        while (common < max && label.charAt(common) == key.charAt(offset + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    private static final class Node {
+        private String label;
+        // Children sorted by the first character of their label, searched with binary search
+        private char[] firsts = NO_CHARS;
+        private Node[] children = NO_NODES;
+        // Indexed by SuggestionType ordinal; null when no key ends here
+        private Entry[] entries;
+        private long best;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private int slotOf(char first) {
+            int slot = Arrays.binarySearch(firsts, first);
+            return slot >= 0 ? slot : -1;
+        }
+
+        private void addChild(Node child) {
+            char first = child.label.charAt(0);
+            int insertAt = -Arrays.binarySearch(firsts, first) - 1;
+            char[] grownFirsts = new char[firsts.length + 1];
+            Node[] grownChildren = new Node[children.length + 1];
+            System.arraycopy(firsts, 0, grownFirsts, 0, insertAt);
+            System.arraycopy(children, 0, grownChildren, 0, insertAt);
+            grownFirsts[insertAt] = first;
+            grownChildren[insertAt] = child;
+            System.arraycopy(firsts, insertAt, grownFirsts, insertAt + 1, firsts.length - insertAt);
+            System.arraycopy(children, insertAt, grownChildren, insertAt + 1, children.length - insertAt);
+            firsts = grownFirsts;
+            children = grownChildren;
+        }
+
+        private void removeChild(char first) {
+            int slot = slotOf(first);
+            char[] shrunkFirsts = new char[firsts.length - 1];
+            Node[] shrunkChildren = new Node[children.length - 1];
+            System.arraycopy(firsts, 0, shrunkFirsts, 0, slot);
+            System.arraycopy(children, 0, shrunkChildren, 0, slot);
+            System.arraycopy(firsts, slot + 1, shrunkFirsts, slot, firsts.length - slot - 1);
+            System.arraycopy(children, slot + 1, shrunkChildren, slot, children.length - slot - 1);
+            firsts = shrunkFirsts;
+            children = shrunkChildren;
+        }
+
+        private Entry entry(SuggestionType type) {
+            return entries == null ? null : entries[type.ordinal()];
+        }
+
+        private void setEntry(Entry entry) {
+            if (entries == null) {
+                entries = new Entry[SuggestionType.values().length];
+            }
+            entries[entry.type.ordinal()] = entry;
+        }
+
+        private void clearEntry(SuggestionType type) {
+            entries[type.ordinal()] = null;
+            if (Arrays.stream(entries).allMatch(entry -> entry == null)) {
+                entries = null;
+            }
+        }
+
+        private void refreshBest() {
+            long max = 0;
+            if (entries != null) {
+                for (Entry entry : entries) {
+                    if (entry != null) {
+                        max = Math.max(max, entry.score());
+                    }
+                }
+            }
+            for (Node child : children) {
+                max = Math.max(max, child.best);
+            }
+            best = max;
+        }
+    }
+
+    private static final class Entry {
+        private final SuggestionType type;
+        private final String text;
+        // Catalog rows backing this suggestion; the entry goes away when it drops to zero
+        private long count;
+        private long hits;
+
+        private Entry(SuggestionType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+
+        private long score() {
+            return count + hits;
+        }
+    }
+
+    private record Candidate(long score, Node node, Entry entry) {
+        // Subtrees before entries on equal score: every tied entry is queued before the first one
+        // is emitted, so ties come out in text order rather than in traversal order
+        private static final Comparator<Candidate> BEST_FIRST = Comparator
+                .comparingLong(Candidate::score).reversed()
+                .thenComparing(candidate -> candidate.entry != null)
+                .thenComparing(candidate -> candidate.entry == null ? "" : candidate.entry.text);
+    }
+}
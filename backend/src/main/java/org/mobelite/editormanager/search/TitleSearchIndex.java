@@ -0,0 +1,219 @@
+package org.mobelite.editormanager.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mobelite.editormanager.dto.PublicationDTO;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
+import org.mobelite.editormanager.mappers.PublicationMapper;
+import org.mobelite.editormanager.repositories.PublicationRepository;
+import org.mobelite.editormanager.utils.TopKCollector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * In-process trigram inverted index over publication titles, answering "title contains"
+ * queries without a table scan and ranking them with {@link RelevanceScorer}. It is built once at startup and then kept in sync from
+ * {@link CatalogChangedEvent}s; while it is (re)building, {@link #isReady()} is false and
+ * callers are expected to fall back to the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TitleSearchIndex {
+    private static final int GRAM_SIZE = 3;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final PublicationRepository publicationRepository;
+
+    private final Map<Long, PublicationDTO> documents = new ConcurrentHashMap<>();
+    private final Map<Long, String> normalizedTitles = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final AtomicLong totalTerms = new AtomicLong();
+    private final Object writeLock = new Object();
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        synchronized (writeLock) {
+            ready = false;
+            documents.clear();
+            normalizedTitles.clear();
+            postings.clear();
+            totalTerms.set(0);
+            try {
+                long start = System.nanoTime();
+                publicationRepository.findAllAsDTO().forEach(this::put);
+                ready = true;
+                log.info("Title search index built with {} publications in {} ms",
+                        documents.size(), (System.nanoTime() - start) / 1_000_000);
+            } catch (RuntimeException ex) {
+                log.error("Title search index build failed, searches will use the database", ex);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        List<PublicationDTO> publications = new ArrayList<>();
+        event.getBooks().forEach(book -> publications.add(PublicationMapper.fromBook(book)));
+        event.getMagazines().forEach(magazine -> publications.add(PublicationMapper.fromMagazine(magazine)));
+
+        synchronized (writeLock) {
+            if (event.getChange() == CatalogChangedEvent.Change.CREATED) {
+                publications.forEach(this::put);
+            } else {
+                publications.forEach(publication -> remove(publication.getId()));
+            }
+        }
+    }
+
+    public List<PublicationDTO> search(String title, int limit, int offset) {
+        String query = normalize(title);
+        int documentCount = documents.size();
+        double averageLength = documentCount == 0 ? 1 : (double) totalTerms.get() / documentCount;
+        RelevanceScorer scorer = new RelevanceScorer(query, this::documentFrequency, documentCount, averageLength);
+        if (scorer.getTerms().isEmpty()) {
+            // Nothing but punctuation: no term to match, so no title matches
+            return List.of();
+        }
+
+        TopKCollector<RelevanceScorer.Scored> topK = new TopKCollector<>(offset + limit, RelevanceScorer.Scored.BEST_FIRST);
+        for (Long id : candidates(scorer.getTerms())) {
+            String normalizedTitle = normalizedTitles.get(id);
+            PublicationDTO document = documents.get(id);
+            if (normalizedTitle != null && document != null && scorer.matches(normalizedTitle)) {
+                topK.offer(scorer.score(document, normalizedTitle));
+            }
+        }
+
+        List<RelevanceScorer.Scored> ranked = topK.toSortedList();
+        return ranked.subList(Math.min(offset, ranked.size()), ranked.size()).stream()
+                .map(RelevanceScorer.Scored::publication)
+                .toList();
+    }
+
+    private Collection<Long> candidates(List<String> terms) {
+        Collection<Long> smallest = null;
+        for (String term : terms) {
+            if (term.length() < GRAM_SIZE) {
+                continue;
+            }
+            Collection<Long> posting = smallestPosting(term);
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        // No term long enough to have a trigram: verify every title, still without touching the database
+        return smallest != null ? smallest : normalizedTitles.keySet();
+    }
+
+    // Upper bound on the number of titles containing the term, read from its rarest trigram
+    private int documentFrequency(String term) {
+        if (term.length() < GRAM_SIZE) {
+            return documents.size();
+        }
+        return smallestPosting(term).size();
+    }
+
+    private Collection<Long> smallestPosting(String query) {
+        Set<Long> smallest = null;
+        for (String gram : grams(query)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        return smallest == null ? Set.of() : smallest;
+    }
+
+    private void put(PublicationDTO publication) {
+        if (publication.getId() == null || publication.getTitle() == null) {
+            return;
+        }
+        remove(publication.getId());
+
+        String normalized = normalize(publication.getTitle());
+        documents.put(publication.getId(), publication);
+        normalizedTitles.put(publication.getId(), normalized);
+        totalTerms.addAndGet(RelevanceScorer.terms(normalized).size());
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(publication.getId());
+        }
+    }
+
+    private void remove(Long id) {
+        String normalized = normalizedTitles.remove(id);
+        documents.remove(id);
+        if (normalized == null) {
+            return;
+        }
+        totalTerms.addAndGet(-RelevanceScorer.terms(normalized).size());
+        for (String gram : grams(normalized)) {
+            postings.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        if (isAscii(text)) {
+            // Nothing to decompose or strip
+            return text.trim().toLowerCase(Locale.ROOT);
+        }
+        String decomposed = Normalizer.normalize(text.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> grams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+}
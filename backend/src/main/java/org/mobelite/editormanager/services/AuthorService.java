@@ -1,27 +1,54 @@
 package org.mobelite.editormanager.services;
 
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mobelite.editormanager.cache.BookLookupCache;
+import org.mobelite.editormanager.cache.RequestCoalescer;
+import org.mobelite.editormanager.cache.UniquenessFilters;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
 import org.mobelite.editormanager.dto.AuthorDTO;
+import org.mobelite.editormanager.dto.AuthorExportDTO;
+import org.mobelite.editormanager.dto.BookDTO;
 import org.mobelite.editormanager.entities.Author;
 import org.mobelite.editormanager.entities.Book;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
 import org.mobelite.editormanager.mappers.AuthorMapper;
 import org.mobelite.editormanager.repositories.AuthorRepository;
 import org.mobelite.editormanager.repositories.BookRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class AuthorService {
+  private static final int EXPORT_BATCH_SIZE = 200;
+  // Keeps each IN list far below MySQL's prepared-statement placeholder limit
+  static final int ISBN_QUERY_CHUNK_SIZE = 1000;
+  // One transaction deletes every listed author with all their books, so the list is capped
+  public static final int MAX_BATCH_DELETE = 100;
+
   private final AuthorRepository authorRepository;
   private final BookRepository bookRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final UniquenessFilters uniquenessFilters;
+  private final RequestCoalescer requestCoalescer;
 
+  @Transactional
   public AuthorDTO addAuthor(AuthorDTO request) {
     // Prevent duplicate author names
     if (authorRepository.findAuthorByName(request.getName()).isPresent()) {
@@ -32,48 +59,132 @@ public class AuthorService {
 
     // Validate books
     if (author.getBooks() != null) {
-      Set<String> seenIsbns = new HashSet<>();
+      Set<String> payloadIsbns = new LinkedHashSet<>();
+      Set<String> duplicateIsbns = new LinkedHashSet<>();
       for (Book book : author.getBooks()) {
-        if (!seenIsbns.add(book.getIsbn())) {
+        if (!payloadIsbns.add(book.getIsbn())) {
           // Duplicate ISBN inside the same payload
-          throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-            "Duplicate ISBN in author request: " + book.getIsbn());
+          duplicateIsbns.add(book.getIsbn());
         }
-
-        if (bookRepository.existsByIsbn(book.getIsbn())) {
-          throw new ResponseStatusException(HttpStatus.CONFLICT,
-            "Book with ISBN " + book.getIsbn() + " already exists");
-        }
-
         book.setAuthor(author);
       }
+      if (!duplicateIsbns.isEmpty()) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+          (duplicateIsbns.size() == 1 ? "Duplicate ISBN in author request: " : "Duplicate ISBNs in author request: ")
+            + String.join(", ", duplicateIsbns));
+      }
+
+      List<String> conflicts = findExistingIsbns(payloadIsbns);
+      if (!conflicts.isEmpty()) {
+        throw new ResponseStatusException(HttpStatus.CONFLICT, conflicts.size() == 1
+          ? "Book with ISBN " + conflicts.get(0) + " already exists"
+          : "Books with ISBNs " + String.join(", ", conflicts) + " already exist");
+      }
     }
 
+    // Author and books are inserted at commit, as JDBC batches (hibernate.jdbc.batch_size)
     Author savedAuthor = authorRepository.save(author);
+
+    AuthorBasicDTO authorBasic = new AuthorBasicDTO(savedAuthor.getId(), savedAuthor.getName(), savedAuthor.getNationality());
+    List<BookDTO> savedBooks = savedAuthor.getBooks() == null ? List.of() : savedAuthor.getBooks().stream()
+      .map(book -> new BookDTO(book.getId(), book.getTitle(), book.getIsbn(), authorBasic, book.getPublicationDate()))
+      .toList();
+    eventPublisher.publishEvent(CatalogChangedEvent.authorsCreated(List.of(authorBasic), savedBooks));
+
     return AuthorMapper.toDTO(savedAuthor);
   }
 
-  public List<Author> getAllAuthors() {
-    return authorRepository.findAll();
+  // One IN query per chunk for the ISBNs the filter cannot rule out, reported in payload order
+  private List<String> findExistingIsbns(Collection<String> isbns) {
+    List<String> candidates = isbns.stream()
+      .filter(uniquenessFilters::mightContainIsbn)
+      .toList();
+    Set<String> existing = new HashSet<>();
+    for (int start = 0; start < candidates.size(); start += ISBN_QUERY_CHUNK_SIZE) {
+      List<String> chunk = candidates.subList(start, Math.min(start + ISBN_QUERY_CHUNK_SIZE, candidates.size()));
+      bookRepository.findExistingIsbns(chunk).forEach(isbn -> existing.add(BookLookupCache.normalize(isbn)));
+    }
+    // Compared normalized: the column collation may match ISBNs that differ only in case
+    return candidates.stream().filter(isbn -> existing.contains(BookLookupCache.normalize(isbn))).toList();
+  }
+
+  public List<AuthorDTO> getAllAuthors() {
+    return requestCoalescer.coalesce("authors.all", List.of(), () -> authorRepository.findAllWithBooks().stream()
+      .map(AuthorMapper::toDTO)
+      .toList());
+  }
+
+  @Transactional(readOnly = true)
+  public void streamAuthors(boolean includeBooks, Consumer<AuthorExportDTO> consumer) {
+    try (Stream<AuthorExportDTO> authors = authorRepository.streamAllForExport()) {
+      if (!includeBooks) {
+        authors.forEach(consumer);
+        return;
+      }
+
+      List<AuthorExportDTO> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
+      authors.forEach(author -> {
+        batch.add(author);
+        if (batch.size() == EXPORT_BATCH_SIZE) {
+          writeWithBooks(batch, consumer);
+          batch.clear();
+        }
+      });
+      writeWithBooks(batch, consumer);
+    }
+  }
+
+  private void writeWithBooks(List<AuthorExportDTO> batch, Consumer<AuthorExportDTO> consumer) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    // One id-ordered query per batch of authors instead of one per author
+    List<Long> authorIds = batch.stream().map(AuthorExportDTO::getId).toList();
+    Map<Long, List<BookDTO>> booksByAuthor = bookRepository.findDTOsByAuthorIds(authorIds)
+      .stream()
+      .collect(Collectors.groupingBy(book -> book.getAuthor().getId()));
+
+    batch.forEach(author -> {
+      author.setBooks(booksByAuthor.getOrDefault(author.getId(), List.of()));
+      consumer.accept(author);
+    });
   }
 
   @Transactional
   public void deleteAuthor(Long authorId) {
-    Author author = authorRepository.findById(authorId)
-      .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
-        "Author not found with id: " + authorId));
+    List<AuthorBasicDTO> authors = authorRepository.findBasicByIds(List.of(authorId));
+    if (authors.isEmpty()) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Author not found with id: " + authorId);
+    }
 
-    // Delete all books of this author
-    List<Book> books = bookRepository.findAll()
-      .stream()
-      .filter(b -> b.getAuthor().getId().equals(authorId))
-      .toList();
+    deleteWithDependents(authors);
+  }
+
+  @Transactional
+  public int deleteAuthors(Collection<Long> authorIds) {
+    if (authorIds.size() > MAX_BATCH_DELETE) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+          "Cannot delete more than " + MAX_BATCH_DELETE + " authors at once, got " + authorIds.size());
+    }
+    List<AuthorBasicDTO> authors = authorRepository.findBasicByIds(authorIds);
+    if (!authors.isEmpty()) {
+      deleteWithDependents(authors);
+    }
+    return authors.size();
+  }
+
+  // A constant number of set-based statements regardless of how many authors or books are involved
+  private void deleteWithDependents(List<AuthorBasicDTO> authors) {
+    List<Long> authorIds = authors.stream().map(AuthorBasicDTO::getId).toList();
+    // Capture what is about to disappear so in-memory views can be updated after commit
+    List<BookDTO> books = bookRepository.findDTOsByAuthorIds(authorIds);
 
-    System.out.println("Deleting books for author " + author.getName() + ": " + books.size());
-    books.forEach(bookRepository::delete);
+    int deletedBooks = bookRepository.deleteByAuthorIds(authorIds);
+    int deletedLinks = authorRepository.deleteMagazineLinksByAuthorIds(authorIds);
+    authorRepository.deleteAllByIdInBatch(authorIds);
+    log.info("Deleted {} author(s) with {} book(s) and {} magazine link(s)", authorIds.size(), deletedBooks, deletedLinks);
 
-    // Now delete the author
-    authorRepository.delete(author);
-    System.out.println("Author deleted: " + author.getName());
+    eventPublisher.publishEvent(CatalogChangedEvent.authorsDeleted(authors, books));
   }
 }
@@ -1,29 +1,66 @@
 package org.mobelite.editormanager.services;
 
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.mobelite.editormanager.cache.BookLookupCache;
+import org.mobelite.editormanager.cache.RequestCoalescer;
+import org.mobelite.editormanager.cache.UniquenessFilters;
+import org.mobelite.editormanager.config.RoutingContext;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.BookBatchResultDTO;
 import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.CursorPage;
+import org.mobelite.editormanager.dto.SliceDTO;
 import org.mobelite.editormanager.entities.Author;
 import org.mobelite.editormanager.entities.Book;
+import org.mobelite.editormanager.enums.BatchItemStatus;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
 import org.mobelite.editormanager.mappers.BookMapper;
 import org.mobelite.editormanager.repositories.AuthorRepository;
 import org.mobelite.editormanager.repositories.BookRepository;
+import org.mobelite.editormanager.utils.Cursor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @AllArgsConstructor
 public class BookService {
+  public static final int MAX_PAGE_SIZE = 100;
+  public static final int BATCH_CHUNK_SIZE = 250;
+
   private final BookRepository bookRepository;
   private final AuthorRepository authorRepository;
+  private final EntityManager entityManager;
+  private final Validator validator;
+  private final ApplicationEventPublisher eventPublisher;
+  private final BookLookupCache bookLookupCache;
+  private final UniquenessFilters uniquenessFilters;
+  private final RequestCoalescer requestCoalescer;
+  private final TransactionTemplate transactionTemplate;
 
   public BookDTO addBook(BookDTO bookDTO) {
-    if (bookRepository.existsByIsbn(bookDTO.getIsbn())) {
+    if (uniquenessFilters.mightContainIsbn(bookDTO.getIsbn()) && bookRepository.existsByIsbn(bookDTO.getIsbn())) {
       throw new RuntimeException("Book with isbn " + bookDTO.getIsbn() + " already exists");
     }
 
@@ -32,24 +69,173 @@ public class BookService {
 
     Book savedBook = bookRepository.save(BookMapper.toEntity(bookDTO, author));
 
-    return BookMapper.toDTO(savedBook);
+    BookDTO saved = BookMapper.toDTO(savedBook);
+    eventPublisher.publishEvent(CatalogChangedEvent.booksCreated(List.of(saved)));
+    return saved;
+  }
+
+  public List<BookBatchResultDTO> addBooks(List<BookDTO> books) {
+    return addBooks(books.iterator());
+  }
+
+  /**
+   * Reads the books chunk by chunk and commits each chunk in its own transaction, so a large feed
+   * is never held in memory whole and a failing chunk does not roll back the ones before it.
+   */
+  public List<BookBatchResultDTO> addBooks(Iterator<BookDTO> books) {
+    List<BookBatchResultDTO> results = new ArrayList<>();
+    List<BookDTO> chunk = new ArrayList<>(BATCH_CHUNK_SIZE);
+    while (books.hasNext()) {
+      chunk.add(books.next());
+      if (chunk.size() == BATCH_CHUNK_SIZE || !books.hasNext()) {
+        int offset = results.size();
+        results.addAll(transactionTemplate.execute(status -> addChunk(chunk, offset)));
+        chunk.clear();
+      }
+    }
+    return results;
+  }
+
+  private List<BookBatchResultDTO> addChunk(List<BookDTO> chunk, int offset) {
+    // Resolve every ISBN and author of the chunk with one IN query each
+    Set<String> isbns = chunk.stream()
+      .filter(Objects::nonNull)
+      .map(BookDTO::getIsbn)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
+    Set<Long> authorIds = chunk.stream()
+      .filter(Objects::nonNull)
+      .map(BookDTO::getAuthor)
+      .filter(Objects::nonNull)
+      .map(AuthorBasicDTO::getId)
+      .collect(Collectors.toSet());
+
+    // Only ISBNs the filter cannot rule out need the IN query; usually that is none of them
+    Set<String> candidateIsbns = isbns.stream()
+      .filter(uniquenessFilters::mightContainIsbn)
+      .collect(Collectors.toSet());
+    // Compared normalized, like the column collation and the unique constraint behind it
+    Set<String> existingIsbns = new HashSet<>();
+    if (!candidateIsbns.isEmpty()) {
+      bookRepository.findExistingIsbns(candidateIsbns).forEach(isbn -> existingIsbns.add(BookLookupCache.normalize(isbn)));
+    }
+    Map<Long, Author> authors = authorRepository.loadAllById(authorIds).stream()
+      .collect(Collectors.toMap(Author::getId, Function.identity()));
+
+    BookBatchResultDTO[] results = new BookBatchResultDTO[chunk.size()];
+    List<Book> toSave = new ArrayList<>();
+    List<Integer> savedPositions = new ArrayList<>();
+    Set<String> seenIsbns = new HashSet<>();
+
+    for (int i = 0; i < chunk.size(); i++) {
+      BookDTO dto = chunk.get(i);
+      int index = offset + i;
+
+      if (dto == null) {
+        results[i] = new BookBatchResultDTO(index, null, BatchItemStatus.INVALID, null, "Book must not be null");
+        continue;
+      }
+      Set<ConstraintViolation<BookDTO>> violations = validator.validate(dto);
+      if (!violations.isEmpty()) {
+        String message = violations.stream()
+          .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+          .sorted()
+          .collect(Collectors.joining(", "));
+        results[i] = rejected(index, dto, BatchItemStatus.INVALID, message);
+        continue;
+      }
+      String isbn = BookLookupCache.normalize(dto.getIsbn());
+      if (existingIsbns.contains(isbn) || !seenIsbns.add(isbn)) {
+        results[i] = rejected(index, dto, BatchItemStatus.DUPLICATE_ISBN,
+          "Book with isbn " + dto.getIsbn() + " already exists");
+        continue;
+      }
+      Author author = authors.get(dto.getAuthor().getId());
+      if (author == null) {
+        results[i] = rejected(index, dto, BatchItemStatus.AUTHOR_NOT_FOUND,
+          "Author not found with id: " + dto.getAuthor().getId());
+        continue;
+      }
+
+      toSave.add(BookMapper.toEntity(dto, author));
+      savedPositions.add(i);
+    }
+
+    List<Book> saved = bookRepository.saveAll(toSave);
+    List<BookDTO> created = new ArrayList<>(saved.size());
+    // Flush the chunk as one JDBC batch, then release it from the persistence context
+    entityManager.flush();
+    for (int k = 0; k < saved.size(); k++) {
+      int position = savedPositions.get(k);
+      Book book = saved.get(k);
+      results[position] = new BookBatchResultDTO(offset + position, book.getIsbn(), BatchItemStatus.CREATED,
+        book.getId(), "Book created successfully");
+      created.add(BookMapper.toDTO(book));
+    }
+    entityManager.clear();
+    if (!created.isEmpty()) {
+      // Listeners run once this chunk commits
+      eventPublisher.publishEvent(CatalogChangedEvent.booksCreated(created));
+    }
+
+    return List.of(results);
+  }
+
+  private static BookBatchResultDTO rejected(int index, BookDTO dto, BatchItemStatus status, String message) {
+    return new BookBatchResultDTO(index, dto.getIsbn(), status, null, message);
   }
 
+  @Transactional(readOnly = true)
   public Optional<BookDTO> getByIsbn(String isbn) {
-    return bookRepository.findByIsbn(isbn).map(BookMapper::toDTO);
+    // Loaded from the primary: a lagging replica's miss would be cached as a negative entry
+    return bookLookupCache.get(isbn, key -> RoutingContext.callOnPrimary(() -> bookRepository.findByIsbn(key).map(BookMapper::toDTO)));
   }
 
   public List<BookDTO> getBooks() {
-    return bookRepository.findAll().stream()
+    return requestCoalescer.coalesce("books.all", List.of(), () -> bookRepository.findAll().stream()
       .map(BookMapper::toDTO)
-      .collect(Collectors.toList());
+      .toList());
+  }
+
+  @Transactional(readOnly = true)
+  public SliceDTO<BookDTO> getBooksSlice(Pageable pageable) {
+    return SliceDTO.of(bookRepository.findAllBy(pageable).map(BookMapper::toDTO));
+  }
+
+  @Transactional(readOnly = true)
+  public CursorPage<BookDTO> getBooksAfter(String after, int size) {
+    int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    Long afterId = after == null || after.isBlank() ? 0L : Cursor.decode(after).getId();
+
+    List<Book> rows = bookRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, pageSize + 1));
+    boolean hasNext = rows.size() > pageSize;
+    List<Book> page = hasNext ? rows.subList(0, pageSize) : rows;
+    String nextCursor = hasNext ? new Cursor(null, page.get(page.size() - 1).getId()).encode() : null;
+
+    return new CursorPage<>(
+      page.stream().map(BookMapper::toDTO).toList(),
+      page.size(),
+      hasNext,
+      nextCursor
+    );
+  }
+
+  @Transactional(readOnly = true)
+  public void streamBooks(Consumer<BookDTO> consumer) {
+    // Projected straight to DTOs: no book or author ever enters the persistence context
+    try (Stream<BookDTO> books = bookRepository.streamAllAsDTO()) {
+      books.forEach(consumer);
+    }
   }
 
   @Transactional
   public boolean deleteBook(Long id) {
     log.info("Attempting to delete book with ID: {}", id);
-    if (bookRepository.existsById(id)) {
-      bookRepository.deleteById(id);
+    Optional<Book> book = bookRepository.findById(id);
+    if (book.isPresent()) {
+      BookDTO deleted = BookMapper.toDTO(book.get());
+      bookRepository.delete(book.get());
+      eventPublisher.publishEvent(CatalogChangedEvent.booksDeleted(List.of(deleted)));
       log.info("Successfully deleted book with ID: {}", id);
       return true;
     }
@@ -62,7 +248,9 @@ public class BookService {
     log.info("Attempting to delete book with ISBN: {}", isbn);
     Optional<Book> book = bookRepository.findByIsbn(isbn);
     if (book.isPresent()) {
+      BookDTO deleted = BookMapper.toDTO(book.get());
       bookRepository.delete(book.get());
+      eventPublisher.publishEvent(CatalogChangedEvent.booksDeleted(List.of(deleted)));
       log.info("Successfully deleted book with ISBN: {}", isbn);
       return true;
     }
@@ -0,0 +1,189 @@
+package org.mobelite.editormanager.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.mobelite.editormanager.config.RoutingContext;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.CursorPage;
+import org.mobelite.editormanager.dto.GroupedPublicationsDTO;
+import org.mobelite.editormanager.dto.MagazineDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Loads one page of books and one page of magazines concurrently, so the grouped view costs the
+ * slower of the two reads rather than their sum. Each branch has its own timeout, and the first
+ * failure fails the request without waiting for the other branch. A branch still queued is
+ * cancelled; one already querying is stopped by its transaction timeout, which Hibernate applies
+ * to every statement, so a timed-out branch does not keep holding a connection.
+ * <p>
+ * Callers following the cursors leave an exhausted list out of {@code include}; it then comes
+ * back empty without a query, rather than restarting from its first page.
+ */
+@Slf4j
+@Service
+public class GroupedPublicationService {
+    public static final String BOOKS = "books";
+    public static final String MAGAZINES = "magazines";
+    public static final Set<String> ALL = Set.of(BOOKS, MAGAZINES);
+
+    private final BookService bookService;
+    private final MagazineService magazineService;
+    private final Executor catalogReadExecutor;
+    private final TransactionOperations branchTransaction;
+    private final Duration branchTimeout;
+
+    @Autowired
+    public GroupedPublicationService(BookService bookService,
+                                     MagazineService magazineService,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${publications.grouped.pool-size:8}") int poolSize,
+                                     @Value("${publications.grouped.queue-capacity:100}") int queueCapacity,
+                                     @Value("${publications.grouped.branch-timeout:5s}") Duration branchTimeout) {
+        this(bookService, magazineService, newExecutor(poolSize, queueCapacity),
+                branchTransaction(transactionManager, branchTimeout), branchTimeout);
+    }
+
+    GroupedPublicationService(BookService bookService, MagazineService magazineService, Executor catalogReadExecutor,
+                              TransactionOperations branchTransaction, Duration branchTimeout) {
+        this.bookService = bookService;
+        this.magazineService = magazineService;
+        this.catalogReadExecutor = catalogReadExecutor;
+        this.branchTransaction = branchTransaction;
+        this.branchTimeout = branchTimeout;
+    }
+
+    // The service reads join this transaction, so its timeout bounds their queries. Whole seconds
+    // only, rounded up so the query is never cut before the branch itself gives up.
+    static TransactionTemplate branchTransaction(PlatformTransactionManager transactionManager, Duration branchTimeout) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.setTimeout((int) Math.max(1, (branchTimeout.toMillis() + 999) / 1000));
+        return transaction;
+    }
+
+    // Owned here rather than exposed as a bean, which would displace Boot's default @Async executor.
+    // Bounded: each task holds a JDBC connection while it runs.
+    private static ThreadPoolTaskExecutor newExecutor(int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("catalog-read-");
+        executor.initialize();
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (catalogReadExecutor instanceof ThreadPoolTaskExecutor executor) {
+            executor.shutdown();
+        }
+    }
+
+    public GroupedPublicationsDTO getGrouped(String booksAfter, String magazinesAfter, int size, Set<String> include) {
+        if (include.isEmpty() || !ALL.containsAll(include)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "include must list books, magazines or both");
+        }
+        CompletableFuture<CursorPage<BookDTO>> bookLoad = include.contains(BOOKS)
+                ? load(() -> bookService.getBooksAfter(booksAfter, size))
+                : skipped();
+        CompletableFuture<CursorPage<MagazineDTO>> magazineLoad;
+        try {
+            magazineLoad = include.contains(MAGAZINES)
+                    ? load(() -> magazineService.getMagazinesAfter(magazinesAfter, size))
+                    : skipped();
+        } catch (ResponseStatusException ex) {
+            bookLoad.cancel(false);
+            throw ex;
+        }
+        CompletableFuture<CursorPage<BookDTO>> books = withTimeout(BOOKS, bookLoad);
+        CompletableFuture<CursorPage<MagazineDTO>> magazines = withTimeout(MAGAZINES, magazineLoad);
+
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        books.whenComplete((page, ex) -> failFast(firstFailure, ex));
+        magazines.whenComplete((page, ex) -> failFast(firstFailure, ex));
+
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(books, magazines), firstFailure).join();
+        } catch (CompletionException ex) {
+            // Cancel the loads themselves, not the stages derived from them: a load still queued
+            // then never runs. A running one cannot be interrupted, its transaction timeout ends it.
+            bookLoad.cancel(false);
+            magazineLoad.cancel(false);
+            throw unwrap(ex);
+        }
+
+        CursorPage<BookDTO> bookPage = books.join();
+        CursorPage<MagazineDTO> magazinePage = magazines.join();
+        return new GroupedPublicationsDTO(
+                bookPage.getItems(),
+                magazinePage.getItems(),
+                bookPage.getNextCursor(),
+                magazinePage.getNextCursor()
+        );
+    }
+
+    private <T> CompletableFuture<T> load(Supplier<T> read) {
+        Supplier<T> transactional = () -> branchTransaction.execute(status -> read.get());
+        // The pool threads do not inherit the request's read-your-writes pin
+        Supplier<T> routed = RoutingContext.isPrimaryRequired()
+                ? () -> RoutingContext.callOnPrimary(transactional)
+                : transactional;
+        try {
+            return CompletableFuture.supplyAsync(routed, catalogReadExecutor);
+        } catch (RejectedExecutionException ex) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent catalog reads, retry shortly");
+        }
+    }
+
+    private static <T> CompletableFuture<CursorPage<T>> skipped() {
+        return CompletableFuture.completedFuture(new CursorPage<>(List.of(), 0, false, null));
+    }
+
+    private <T> CompletableFuture<T> withTimeout(String name, CompletableFuture<T> load) {
+        return load
+                .orTimeout(branchTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("Loading {} for the grouped view timed out after {} ms", name, branchTimeout.toMillis());
+                        throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT,
+                                "Loading " + name + " timed out after " + branchTimeout.toMillis() + " ms");
+                    }
+                    throw ex instanceof CompletionException completion ? completion : new CompletionException(cause);
+                });
+    }
+
+    private static void failFast(CompletableFuture<Void> firstFailure, Throwable ex) {
+        if (ex != null) {
+            firstFailure.completeExceptionally(ex);
+        }
+    }
+
+    private static RuntimeException unwrap(CompletionException ex) {
+        Throwable cause = ex;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException runtime ? runtime : ex;
+    }
+}
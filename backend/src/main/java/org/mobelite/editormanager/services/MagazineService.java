@@ -1,53 +1,113 @@
 package org.mobelite.editormanager.services;
 
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
+import org.mobelite.editormanager.cache.UniquenessFilters;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.CursorPage;
 import org.mobelite.editormanager.dto.MagazineDTO;
 import org.mobelite.editormanager.entities.Author;
 import org.mobelite.editormanager.entities.Magazine;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
 import org.mobelite.editormanager.mappers.MagazineMapper;
 import org.mobelite.editormanager.repositories.AuthorRepository;
 import org.mobelite.editormanager.repositories.MagazineRepository;
+import org.mobelite.editormanager.utils.Cursor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class MagazineService {
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final MagazineRepository magazineRepository;
     private final AuthorRepository authorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UniquenessFilters uniquenessFilters;
 
+    @Transactional
     public MagazineDTO addMagazine(MagazineDTO request) {
-        if (magazineRepository.existsMagazineByIssueNumber(request.getIssueNumber())) {
+        if (uniquenessFilters.mightContainIssueNumber(request.getIssueNumber())
+                && magazineRepository.existsMagazineByIssueNumber(request.getIssueNumber())) {
             throw new RuntimeException("Magazine with issue number " + request.getIssueNumber() + " already exists");
         }
 
-        // Validate and fetch complete Author entities from DB
-        List<Author> realAuthors = request.getAuthors().stream()
-                .map(author -> authorRepository.findById(author.getId())
-                        .orElseThrow(() -> new RuntimeException("Author not found with ID: " + author.getId())))
+        // Resolve every referenced author from the second-level cache, selecting the rest with one IN query;
+        // Author.books stays unloaded
+        List<Long> authorIds = request.getAuthors().stream()
+                .map(AuthorBasicDTO::getId)
+                .distinct()
+                .toList();
+        Map<Long, Author> found = authorRepository.loadAllById(authorIds).stream()
+                .collect(Collectors.toMap(Author::getId, Function.identity()));
+
+        List<String> missing = authorIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .map(String::valueOf)
                 .toList();
+        if (!missing.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, missing.size() == 1
+                    ? "Author not found with ID: " + missing.get(0)
+                    : "Authors not found with IDs: " + String.join(", ", missing));
+        }
+
+        List<Author> realAuthors = authorIds.stream().map(found::get).toList();
 
         Magazine magazine = MagazineMapper.toEntity(request, realAuthors);
 
         Magazine savedMagazine = magazineRepository.save(magazine);
 
-        return MagazineMapper.toDTO(savedMagazine);
+        MagazineDTO saved = MagazineMapper.toDTO(savedMagazine);
+        eventPublisher.publishEvent(CatalogChangedEvent.magazineCreated(saved));
+        return saved;
     }
 
+    @Transactional(readOnly = true)
     public List<MagazineDTO> getAllMagazines() {
         return magazineRepository.findAll().stream()
                 .map(MagazineMapper::toDTO)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<MagazineDTO> getMagazinesAfter(String after, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Long afterId = after == null || after.isBlank() ? 0L : Cursor.decode(after).getId();
+
+        List<MagazineDTO> rows = magazineRepository.findPageAfter(afterId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<MagazineDTO> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        // Second and last query: every author of the page through one IN over magazine_author
+        if (!page.isEmpty()) {
+            Map<Long, MagazineDTO> byId = page.stream()
+                    .collect(Collectors.toMap(MagazineDTO::getId, Function.identity()));
+            magazineRepository.findAuthorsByMagazineIds(byId.keySet()).forEach(row -> byId.get(row.getMagazineId())
+                    .getAuthors()
+                    .add(new AuthorBasicDTO(row.getAuthorId(), row.getName(), row.getNationality())));
+        }
+
+        String nextCursor = hasNext ? new Cursor(null, page.get(page.size() - 1).getId()).encode() : null;
+        return new CursorPage<>(page, page.size(), hasNext, nextCursor);
+    }
+
     @Transactional
     public void deleteMagazine(Long magazineId) {
       Magazine magazine = magazineRepository.findById(magazineId)
         .orElseThrow(() -> new RuntimeException("Magazine not found with id: " + magazineId));
 
       System.out.println("Deleting magazine: " + magazine.getTitle());
+      MagazineDTO deleted = MagazineMapper.toDTO(magazine);
       magazineRepository.delete(magazine);
+      eventPublisher.publishEvent(CatalogChangedEvent.magazineDeleted(deleted));
     }
 }
@@ -0,0 +1,43 @@
+package org.mobelite.editormanager.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mobelite.editormanager.repositories.PublicationRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the total number of publications off the request path: the count over the joined
+ * inheritance tables is refreshed in the background and readers get the last known value.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PublicationCountService {
+    private final PublicationRepository publicationRepository;
+
+    private final AtomicReference<CountSnapshot> snapshot = new AtomicReference<>();
+
+    public CountSnapshot getCount() {
+        CountSnapshot current = snapshot.get();
+        // Only the very first caller before the scheduler has run pays for the count
+        return current != null ? current : refresh();
+    }
+
+    @Scheduled(
+            initialDelayString = "${publications.count.initial-delay-ms:0}",
+            fixedDelayString = "${publications.count.refresh-interval-ms:60000}"
+    )
+    public CountSnapshot refresh() {
+        CountSnapshot refreshed = new CountSnapshot(publicationRepository.count(), Instant.now());
+        snapshot.set(refreshed);
+        log.debug("Refreshed publication count: {}", refreshed.total());
+        return refreshed;
+    }
+
+    public record CountSnapshot(long total, Instant computedAt) {
+    }
+}
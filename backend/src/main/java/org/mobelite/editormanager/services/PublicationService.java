@@ -1,46 +1,155 @@
 package org.mobelite.editormanager.services;
 
 import lombok.AllArgsConstructor;
+import org.mobelite.editormanager.cache.RequestCoalescer;
+import org.mobelite.editormanager.dto.CursorPage;
 import org.mobelite.editormanager.dto.PublicationDTO;
+import org.mobelite.editormanager.dto.SliceDTO;
+import org.mobelite.editormanager.dto.SuggestionDTO;
 import org.mobelite.editormanager.entities.Publication;
 import org.mobelite.editormanager.enums.PublicationType;
 import org.mobelite.editormanager.mappers.PublicationMapper;
-import org.mobelite.editormanager.repositories.BookRepository;
-import org.mobelite.editormanager.repositories.MagazineRepository;
 import org.mobelite.editormanager.repositories.PublicationRepository;
+import org.mobelite.editormanager.search.RelevanceScorer;
+import org.mobelite.editormanager.search.SuggestionIndex;
+import org.mobelite.editormanager.search.TitleSearchIndex;
+import org.mobelite.editormanager.utils.Cursor;
+import org.mobelite.editormanager.utils.TopKCollector;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @Service
 @AllArgsConstructor
 public class PublicationService {
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+    public static final int MAX_SEARCH_OFFSET = 1000;
+
     private final PublicationRepository publicationRepository;
-    private final MagazineRepository magazineRepository;
-    private final BookRepository bookRepository;
+    private final TitleSearchIndex titleSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final RequestCoalescer requestCoalescer;
 
     public Page<PublicationDTO> getPublications(Pageable pageable) {
-        Page<Publication> publications = publicationRepository.findAll(pageable);
-        return publications.map(PublicationMapper::toDTO);
+        return requestCoalescer.coalesce("publications.page", pageable, () -> {
+            Page<Publication> publications = publicationRepository.findAll(pageable);
+            return publications.map(PublicationMapper::toDTO);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public SliceDTO<PublicationDTO> getPublicationSlice(Pageable pageable) {
+        // A Slice reads size + 1 rows to compute hasNext and never issues a count query
+        Slice<Publication> publications = publicationRepository.findAllBy(pageable);
+        return SliceDTO.of(publications.map(PublicationMapper::toDTO));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<PublicationDTO> getPublicationsAfter(String after, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // Fetch one extra row to know whether another page exists without counting
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Publication> rows;
+        if (after == null || after.isBlank()) {
+            rows = publicationRepository.findAllByOrderByTitleAscIdAsc(limit);
+        } else {
+            Cursor cursor = Cursor.decode(after);
+            rows = publicationRepository.findPageAfter(cursor.getSortKey(), cursor.getId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Publication> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Publication last = page.get(page.size() - 1);
+            nextCursor = new Cursor(last.getTitle(), last.getId()).encode();
+        }
+
+        return new CursorPage<>(
+                page.stream().map(PublicationMapper::toDTO).toList(),
+                page.size(),
+                hasNext,
+                nextCursor
+        );
     }
 
     public List<PublicationDTO> searchByTitle(String title) {
-        List<PublicationDTO> books = bookRepository.findByTitleContainingIgnoreCase(title)
-                .stream()
-                .map(PublicationMapper::toDTO)
-                .toList();
+        return searchByTitle(title, DEFAULT_SEARCH_LIMIT, 0);
+    }
+
+    // Not @Transactional: the index needs no connection, and the fallback query runs in the
+    // transaction the coalescer opens
+    public List<PublicationDTO> searchByTitle(String title, int limit, int offset) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        int skip = Math.min(Math.max(offset, 0), MAX_SEARCH_OFFSET);
 
-        List<PublicationDTO> magazines = magazineRepository.findByTitleContainingIgnoreCase(title)
-                .stream()
-                .map(PublicationMapper::toDTO)
+        List<String> terms = RelevanceScorer.terms(TitleSearchIndex.normalize(title));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        // Every search counts towards popularity, including the ones that share a result
+        suggestionIndex.recordHit(title);
+        if (titleSearchIndex.isReady()) {
+            return titleSearchIndex.search(title, pageSize, skip);
+        }
+
+        // Index still building: fall back to a single projected query, matched and ranked the same
+        // way. The longest term narrows the rows; rank() keeps those containing every term.
+        String longestTerm = terms.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+        return requestCoalescer.coalesce("publications.search", List.of(title, pageSize, skip), () -> {
+            List<PublicationDTO> candidates = publicationRepository.searchByTitleAsDTO(escapeLike(longestTerm));
+            return rank(title, candidates, pageSize, skip);
+        });
+    }
+
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        return suggestionIndex.suggest(prefix, limit);
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private List<PublicationDTO> rank(String title, List<PublicationDTO> candidates, int limit, int offset) {
+        String query = TitleSearchIndex.normalize(title);
+        List<String> normalizedTitles = candidates.stream()
+                .map(candidate -> TitleSearchIndex.normalize(candidate.getTitle()))
+                .toList();
+        // Split each title once: the tokens serve both the average length and the scoring
+        List<List<String>> titleTokens = normalizedTitles.stream()
+                .map(RelevanceScorer::terms)
                 .toList();
+        double averageLength = titleTokens.stream()
+                .mapToInt(List::size)
+                .average()
+                .orElse(1);
+        RelevanceScorer scorer = new RelevanceScorer(
+                query,
+                term -> (int) normalizedTitles.stream().filter(normalized -> normalized.contains(term)).count(),
+                candidates.size(),
+                averageLength
+        );
 
-        List<PublicationDTO> results = new ArrayList<>();
-        results.addAll(books);
-        results.addAll(magazines);
-        return results;
+        // Books and magazines are merged through one bounded heap rather than concatenated
+        TopKCollector<RelevanceScorer.Scored> topK = new TopKCollector<>(offset + limit, RelevanceScorer.Scored.BEST_FIRST);
+        for (int i = 0; i < candidates.size(); i++) {
+            if (scorer.matches(normalizedTitles.get(i))) {
+                topK.offer(scorer.score(candidates.get(i), normalizedTitles.get(i), titleTokens.get(i)));
+            }
+        }
+
+        List<RelevanceScorer.Scored> ranked = topK.toSortedList();
+        return ranked.subList(Math.min(offset, ranked.size()), ranked.size()).stream()
+                .map(RelevanceScorer.Scored::publication)
+                .toList();
     }
 }
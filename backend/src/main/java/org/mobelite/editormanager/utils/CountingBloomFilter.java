@@ -0,0 +1,92 @@
+package org.mobelite.editormanager.utils;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Bloom filter with a small counter per slot instead of a bit, so elements can also be removed.
+ * {@link #mightContain} never answers false for an element that was added and not removed;
+ * a true answer only means "possibly present". Counters stick at their maximum rather than
+ * overflow, which keeps that guarantee at the cost of never clearing those slots.
+ */
+public class CountingBloomFilter<T> {
+    private static final int MAX_COUNT = 0xFF;
+
+    private final byte[] counters;
+    private final int hashFunctions;
+    private final ToLongFunction<T> hasher;
+
+    public CountingBloomFilter(long expectedInsertions, double falsePositiveRate, ToLongFunction<T> hasher) {
+        long expected = Math.max(expectedInsertions, 1);
+        double ln2 = Math.log(2);
+        long slots = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.counters = new byte[(int) Math.min(Math.max(slots, 64), Integer.MAX_VALUE - 8)];
+        this.hashFunctions = Math.max(1, (int) Math.round((double) counters.length / expected * ln2));
+        this.hasher = hasher;
+    }
+
+    public synchronized void add(T element) {
+        long hash = hasher.applyAsLong(element);
+        for (int i = 0; i < hashFunctions; i++) {
+            int slot = slot(hash, i);
+            int count = counters[slot] & MAX_COUNT;
+            if (count < MAX_COUNT) {
+                counters[slot] = (byte) (count + 1);
+            }
+        }
+    }
+
+    public synchronized void remove(T element) {
+        long hash = hasher.applyAsLong(element);
+        for (int i = 0; i < hashFunctions; i++) {
+            int slot = slot(hash, i);
+            int count = counters[slot] & MAX_COUNT;
+            if (count > 0 && count < MAX_COUNT) {
+                counters[slot] = (byte) (count - 1);
+            }
+        }
+    }
+
+    public synchronized boolean mightContain(T element) {
+        long hash = hasher.applyAsLong(element);
+        for (int i = 0; i < hashFunctions; i++) {
+            if (counters[slot(hash, i)] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getSlots() {
+        return counters.length;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    // Kirsch-Mitzenmacher: k indexes derived from the two 32-bit halves of one 64-bit hash
+    private int slot(long hash, int i) {
+        int combined = (int) hash + i * (int) (hash >>> 32);
+        return (combined & Integer.MAX_VALUE) % counters.length;
+    }
+
+    /** 64-bit FNV-1a over the characters, finished with the SplitMix64 mixer. */
+    public static long hash(CharSequence text) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    public static long hash(long value) {
+        return mix(value + 0x9e3779b97f4a7c15L);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,41 @@
+package org.mobelite.editormanager.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset-pagination position: the sort key and id of the last row of a page,
+ * encoded as URL-safe Base64 so clients treat it as a token rather than an offset.
+ */
+@Getter
+@AllArgsConstructor
+public class Cursor {
+    private static final char SEPARATOR = ':';
+
+    private final String sortKey;
+    private final Long id;
+
+    public String encode() {
+        String raw = id + String.valueOf(SEPARATOR) + (sortKey == null ? "" : sortKey);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            Long id = Long.valueOf(raw.substring(0, separator));
+            return new Cursor(raw.substring(separator + 1), id);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + token);
+        }
+    }
+}
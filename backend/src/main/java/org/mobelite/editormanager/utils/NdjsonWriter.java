@@ -0,0 +1,38 @@
+package org.mobelite.editormanager.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes each accepted value as one JSON line (application/x-ndjson) straight to the response,
+ * so streamed endpoints never hold more than the current row in memory.
+ */
+public class NdjsonWriter<T> implements Consumer<T> {
+    private static final int FLUSH_EVERY = 100;
+
+    private final ObjectMapper objectMapper;
+    private final OutputStream out;
+    private int written;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream out) {
+        this.objectMapper = objectMapper;
+        this.out = out;
+    }
+
+    @Override
+    public void accept(T value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+            if (++written % FLUSH_EVERY == 0) {
+                out.flush();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.mobelite.editormanager.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the best {@code capacity} elements seen so far in a bounded heap, so ranking a stream
+ * of n matches costs O(n log k) time and O(k) memory.
+ */
+public class TopKCollector<T> {
+    private final int capacity;
+    private final Comparator<T> bestFirst;
+    private final PriorityQueue<T> heap;
+
+    public TopKCollector(int capacity, Comparator<T> bestFirst) {
+        this.capacity = capacity;
+        this.bestFirst = bestFirst;
+        // Worst retained element sits at the head so it can be evicted in O(log k)
+        this.heap = new PriorityQueue<>(Math.max(capacity, 1), bestFirst.reversed());
+    }
+
+    public void offer(T element) {
+        if (capacity <= 0) {
+            return;
+        }
+        if (heap.size() < capacity) {
+            heap.add(element);
+        } else if (bestFirst.compare(element, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    public List<T> toSortedList() {
+        List<T> sorted = new ArrayList<>(heap);
+        sorted.sort(bestFirst);
+        return sorted;
+    }
+}
@@ -0,0 +1,82 @@
+package org.mobelite.editormanager.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.CacheStatsDTO;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookLookupCacheTest {
+
+    private BookLookupCache bookLookupCache;
+    private AtomicInteger loads;
+    private BookDTO book;
+
+    @BeforeEach
+    void setUp() {
+        bookLookupCache = new BookLookupCache(100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+        loads = new AtomicInteger();
+        book = new BookDTO(1L, "Title", "ISBN-1", new AuthorBasicDTO(1L, "Author", null), null);
+    }
+
+    @Test
+    void onCatalogChanged_shouldEvictNegativeEntry_whenBookIsCreated() {
+        // Arrange
+        bookLookupCache.get("isbn-1", loader(Optional.empty()));
+
+        // Act
+        bookLookupCache.onCatalogChanged(CatalogChangedEvent.booksCreated(List.of(book)));
+        Optional<BookDTO> result = bookLookupCache.get("ISBN-1", loader(Optional.of(book)));
+
+        // Assert
+        assertEquals(book, result.orElseThrow());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onCatalogChanged_shouldEvictBooksOfDeletedAuthors() {
+        // Arrange
+        bookLookupCache.get("ISBN-1", loader(Optional.of(book)));
+
+        // Act
+        bookLookupCache.onCatalogChanged(CatalogChangedEvent.authorsDeleted(List.of(book.getAuthor()), List.of(book)));
+        Optional<BookDTO> result = bookLookupCache.get("ISBN-1", loader(Optional.empty()));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getStats_shouldReportHitsAndMisses() {
+        // Arrange
+        bookLookupCache.get("ISBN-1", loader(Optional.of(book)));
+        bookLookupCache.get("ISBN-1", loader(Optional.of(book)));
+        bookLookupCache.get("ISBN-1", loader(Optional.of(book)));
+
+        // Act
+        CacheStatsDTO stats = bookLookupCache.getStats();
+
+        // Assert
+        assertEquals(BookLookupCache.NAME, stats.getName());
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getSize());
+    }
+
+    private Function<String, Optional<BookDTO>> loader(Optional<BookDTO> answer) {
+        return isbn -> {
+            loads.incrementAndGet();
+            return answer;
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package org.mobelite.editormanager.cache;
+
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.MagazineDTO;
+import org.mobelite.editormanager.enums.CatalogCollection;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogVersionsTest {
+
+    private final CatalogVersions catalogVersions = new CatalogVersions();
+
+    private final AuthorBasicDTO author = new AuthorBasicDTO(1L, "Author", "FR");
+    private final BookDTO book = new BookDTO(2L, "Book", "ISBN-2", author, LocalDate.of(2020, 1, 1));
+    private final MagazineDTO magazine = new MagazineDTO(3L, 4, "Monthly", LocalDate.of(2021, 1, 1), List.of(author));
+
+    @Test
+    void onCatalogChanged_shouldBumpBooksAndAuthors_whenBooksChange() {
+        // Act
+        catalogVersions.onCatalogChanged(CatalogChangedEvent.booksCreated(List.of(book)));
+
+        // Assert
+        assertEquals(1, catalogVersions.version(CatalogCollection.BOOKS));
+        assertTrue(catalogVersions.version(CatalogCollection.AUTHORS) > 0, "authors are listed with their books");
+        assertEquals(0, catalogVersions.version(CatalogCollection.MAGAZINES));
+    }
+
+    @Test
+    void onCatalogChanged_shouldOnlyBumpMagazines_whenAMagazineChanges() {
+        // Act
+        catalogVersions.onCatalogChanged(CatalogChangedEvent.magazineCreated(magazine));
+        catalogVersions.onCatalogChanged(CatalogChangedEvent.magazineDeleted(magazine));
+
+        // Assert
+        assertEquals(2, catalogVersions.version(CatalogCollection.MAGAZINES));
+        assertEquals(0, catalogVersions.version(CatalogCollection.AUTHORS));
+        assertEquals(0, catalogVersions.version(CatalogCollection.BOOKS));
+    }
+
+    @Test
+    void onCatalogChanged_shouldBumpMagazines_onlyWhenAuthorsAreDeleted() {
+        // Act
+        catalogVersions.onCatalogChanged(CatalogChangedEvent.authorsCreated(List.of(author), List.of()));
+        long magazinesAfterCreate = catalogVersions.version(CatalogCollection.MAGAZINES);
+        catalogVersions.onCatalogChanged(CatalogChangedEvent.authorsDeleted(List.of(author), List.of()));
+
+        // Assert
+        assertEquals(0, magazinesAfterCreate);
+        assertEquals(1, catalogVersions.version(CatalogCollection.MAGAZINES));
+        assertEquals(2, catalogVersions.version(CatalogCollection.AUTHORS));
+    }
+
+    @Test
+    void eTag_shouldMatchIfNoneMatch_untilTheCollectionChanges() {
+        // Arrange
+        String eTag = catalogVersions.eTag(CatalogCollection.BOOKS);
+
+        // Act
+        boolean unchanged = conditionalGet(eTag).checkNotModified(catalogVersions.eTag(CatalogCollection.BOOKS));
+        catalogVersions.onCatalogChanged(CatalogChangedEvent.booksDeleted(List.of(book)));
+        boolean afterWrite = conditionalGet(eTag).checkNotModified(catalogVersions.eTag(CatalogCollection.BOOKS));
+
+        // Assert
+        assertTrue(unchanged);
+        assertFalse(afterWrite);
+        assertNotEquals(eTag, catalogVersions.eTag(CatalogCollection.AUTHORS), "tags are never shared between collections");
+    }
+
+    private static ServletWebRequest conditionalGet(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/books");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
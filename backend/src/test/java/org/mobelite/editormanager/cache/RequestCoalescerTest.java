@@ -0,0 +1,155 @@
+package org.mobelite.editormanager.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.dto.CoalescingStatsDTO;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer(TransactionOperations.withoutTransaction());
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void coalesce_shouldShareOneLoad_betweenConcurrentIdenticalCalls() throws Exception {
+        // Arrange: the first load blocks until every caller has arrived
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch arrived = new CountDownLatch(CALLERS);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> result = List.of("shared");
+
+        // Act
+        List<Future<List<String>>> calls = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            calls.add(executor.submit(() -> {
+                arrived.countDown();
+                return requestCoalescer.coalesce("books.all", List.of(), () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return result;
+                });
+            }));
+        }
+        assertTrue(arrived.await(1, TimeUnit.SECONDS));
+        // Give the followers time to find the leader's flight before it lands
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        for (Future<List<String>> call : calls) {
+            assertSame(result, call.get(1, TimeUnit.SECONDS));
+        }
+        CoalescingStatsDTO stats = requestCoalescer.getStats().get(0);
+        assertEquals(CALLERS, stats.getCalls());
+        assertEquals(loads.get(), stats.getExecutions());
+        assertEquals(CALLERS - loads.get(), stats.getSaved());
+        assertTrue(loads.get() < CALLERS, "at least some callers should have shared a load");
+    }
+
+    @Test
+    void coalesce_shouldGiveFollowersTheLeadersException() throws Exception {
+        // Arrange
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> leader = executor.submit(() -> requestCoalescer.coalesce("search", "x", () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }));
+        assertTrue(leaderStarted.await(1, TimeUnit.SECONDS));
+
+        // Act
+        Future<Object> follower = executor.submit(() -> requestCoalescer.coalesce("search", "x", () -> "never runs"));
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        Exception ex = assertThrows(Exception.class, () -> follower.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(ResponseStatusException.class, ex.getCause());
+        assertThrows(Exception.class, () -> leader.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void coalesce_shouldOpenTransactionsOnlyForLoads_soFollowersHoldNoConnection() throws Exception {
+        // Arrange: count the transactions the coalescer opens; the load blocks until released
+        AtomicInteger transactions = new AtomicInteger();
+        RequestCoalescer coalescer = new RequestCoalescer(new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                transactions.incrementAndGet();
+                return action.doInTransaction(null);
+            }
+        });
+        CountDownLatch arrived = new CountDownLatch(CALLERS);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act
+        List<Future<String>> calls = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            calls.add(executor.submit(() -> {
+                arrived.countDown();
+                return coalescer.coalesce("books.all", List.of(), () -> {
+                    await(release);
+                    return "shared";
+                });
+            }));
+        }
+        assertTrue(arrived.await(1, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        release.countDown();
+        for (Future<String> call : calls) {
+            assertEquals("shared", call.get(1, TimeUnit.SECONDS));
+        }
+
+        // Assert
+        assertEquals(coalescer.getStats().get(0).getExecutions(), transactions.get());
+        assertTrue(transactions.get() < CALLERS, "followers must not open transactions of their own");
+    }
+
+    @Test
+    void coalesce_shouldNotCacheResults_onceTheLoadHasFinished() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        requestCoalescer.coalesce("authors.all", List.of(), loads::incrementAndGet);
+        requestCoalescer.coalesce("authors.all", List.of(), loads::incrementAndGet);
+        requestCoalescer.coalesce("books.all", List.of(), loads::incrementAndGet);
+
+        // Assert
+        assertEquals(3, loads.get());
+        assertEquals(List.of("authors.all", "books.all"),
+                requestCoalescer.getStats().stream().map(CoalescingStatsDTO::getOperation).toList());
+        assertEquals(0, requestCoalescer.getStats().get(0).getSaved());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.mobelite.editormanager.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.enums.CatalogCollection;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
+import org.mobelite.editormanager.services.AuthorService;
+import org.mobelite.editormanager.services.BookService;
+import org.mobelite.editormanager.services.MagazineService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ResponseSnapshotsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private BookService bookService;
+    private CatalogVersions catalogVersions;
+    private ResponseSnapshots responseSnapshots;
+
+    private final BookDTO book = new BookDTO(1L, "Dune", "ISBN-1", new AuthorBasicDTO(2L, "Frank Herbert", "US"),
+            LocalDate.of(1965, 8, 1));
+
+    @BeforeEach
+    void setUp() {
+        bookService = mock(BookService.class);
+        catalogVersions = new CatalogVersions();
+        responseSnapshots = new ResponseSnapshots(mock(AuthorService.class), bookService, mock(MagazineService.class),
+                catalogVersions, objectMapper);
+        when(bookService.getBooks()).thenReturn(List.of(book));
+    }
+
+    @Test
+    void respond_shouldServeTheSameBytes_withoutReloading() throws IOException {
+        // Act
+        ResponseEntity<byte[]> first = responseSnapshots.respond(CatalogCollection.BOOKS, get(null, null));
+        ResponseEntity<byte[]> second = responseSnapshots.respond(CatalogCollection.BOOKS, get(null, null));
+
+        // Assert
+        assertSame(first.getBody(), second.getBody());
+        verify(bookService, times(1)).getBooks();
+
+        JsonNode body = objectMapper.readTree(first.getBody());
+        assertEquals(200, body.get("statusCode").asInt());
+        assertEquals("Books fetched successfully", body.get("message").asText());
+        assertEquals("ISBN-1", body.get("data").get(0).get("isbn").asText());
+        assertEquals(catalogVersions.eTag(CatalogCollection.BOOKS), first.getHeaders().getETag());
+    }
+
+    @Test
+    void respond_shouldRebuild_afterTheCollectionChanges() {
+        // Arrange
+        ResponseEntity<byte[]> before = responseSnapshots.respond(CatalogCollection.BOOKS, get(null, null));
+
+        // Act
+        catalogVersions.onCatalogChanged(CatalogChangedEvent.booksCreated(List.of(book)));
+        ResponseEntity<byte[]> after = responseSnapshots.respond(CatalogCollection.BOOKS, get(null, null));
+
+        // Assert
+        verify(bookService, times(2)).getBooks();
+        assertNotEquals(before.getHeaders().getETag(), after.getHeaders().getETag());
+    }
+
+    @Test
+    void respond_shouldServeGzip_underItsOwnETag() throws IOException {
+        // Act
+        ResponseEntity<byte[]> plain = responseSnapshots.respond(CatalogCollection.BOOKS, get(null, null));
+        ResponseEntity<byte[]> gzipped = responseSnapshots.respond(CatalogCollection.BOOKS, get("gzip, deflate", null));
+
+        // Assert
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertArrayEquals(plain.getBody(), in.readAllBytes());
+        }
+        assertNotEquals(plain.getHeaders().getETag(), gzipped.getHeaders().getETag());
+        assertTrue(gzipped.getHeaders().getVary().contains(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Test
+    void respond_shouldAnswerNotModified_withoutLoading() {
+        // Arrange
+        String eTag = catalogVersions.eTag(CatalogCollection.BOOKS);
+
+        // Act
+        ResponseEntity<byte[]> response = responseSnapshots.respond(CatalogCollection.BOOKS, get(null, eTag));
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verifyNoInteractions(bookService);
+    }
+
+    private static ServletWebRequest get(String acceptEncoding, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/books");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
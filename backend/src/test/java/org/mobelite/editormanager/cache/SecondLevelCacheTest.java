@@ -0,0 +1,152 @@
+package org.mobelite.editormanager.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.dto.CacheRegionStatsDTO;
+import org.mobelite.editormanager.entities.Author;
+import org.mobelite.editormanager.entities.Book;
+import org.mobelite.editormanager.repositories.AuthorRepository;
+import org.mobelite.editormanager.repositories.BookRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs outside a test transaction: cache puts and query-cache invalidation happen at commit,
+ * so every repository call here commits on its own, as it would behind a controller.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SecondLevelCacheStats.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SecondLevelCacheStats secondLevelCacheStats;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Bulk deletes: nothing to cascade through, and the affected regions are invalidated
+        bookRepository.deleteAllInBatch();
+        authorRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void findById_shouldReadTheAuthorFromTheCache_afterTheFirstLoad() {
+        // Arrange
+        Author author = authorRepository.save(newAuthor("Cached Author"));
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        // Act
+        authorRepository.findById(author.getId()).orElseThrow();
+        Author cached = authorRepository.findById(author.getId()).orElseThrow();
+
+        // Assert
+        assertEquals("Cached Author", cached.getName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        CacheRegionStatsDTO region = region("author");
+        assertEquals(1, region.getHitCount());
+        assertEquals(1, region.getMissCount());
+        assertEquals(0.5, region.getHitRate());
+        assertEquals(1, region.getSize());
+    }
+
+    @Test
+    void loadAllById_shouldOnlySelectAuthorsMissingFromTheCache() {
+        // Arrange
+        Author first = authorRepository.save(newAuthor("First"));
+        Author second = authorRepository.save(newAuthor("Second"));
+        entityManagerFactory.getCache().evictAll();
+        authorRepository.findById(first.getId()).orElseThrow();
+        statistics.clear();
+
+        // Act
+        List<Author> authors = authorRepository.loadAllById(List.of(first.getId(), second.getId(), -1L));
+
+        // Assert
+        assertEquals(List.of("First", "Second"), authors.stream().map(Author::getName).toList());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getEntityLoadCount(), "only the uncached author should be selected");
+    }
+
+    @Test
+    void findByIsbn_shouldUseTheQueryCache_untilBooksChange() {
+        // Arrange
+        Author author = newAuthor("Query Cache Author");
+        author.getBooks().add(newBook("QC-1", author));
+        authorRepository.save(author);
+        statistics.clear();
+
+        // Act
+        bookRepository.findByIsbn("QC-1").orElseThrow();
+        bookRepository.findByIsbn("QC-1").orElseThrow();
+        long hitsBeforeWrite = statistics.getQueryCacheHitCount();
+
+        Author saved = authorRepository.findAuthorByName("Query Cache Author").orElseThrow();
+        bookRepository.save(newBook("QC-2", saved));
+        bookRepository.findByIsbn("QC-1").orElseThrow();
+
+        // Assert
+        assertEquals(1, hitsBeforeWrite);
+        assertEquals(1, statistics.getQueryCacheHitCount(), "a book insert must invalidate the cached result");
+        CacheRegionStatsDTO region = region("query-book-by-isbn");
+        assertEquals(1, region.getHitCount());
+        assertEquals(2, region.getMissCount());
+    }
+
+    private CacheRegionStatsDTO region(String name) {
+        return secondLevelCacheStats.getRegionStats().stream()
+                .filter(stats -> stats.getRegion().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no statistics for region " + name));
+    }
+
+    private static Author newAuthor(String name) {
+        Author author = new Author();
+        author.setName(name);
+        author.setBirthDate(LocalDate.of(1970, 1, 1));
+        author.setNationality("Nowhere");
+        author.setBooks(new ArrayList<>());
+        return author;
+    }
+
+    private static Book newBook(String isbn, Author author) {
+        Book book = new Book();
+        book.setTitle("Book " + isbn);
+        book.setIsbn(isbn);
+        book.setPublicationDate(LocalDate.of(2020, 1, 1));
+        book.setAuthor(author);
+        return book;
+    }
+}
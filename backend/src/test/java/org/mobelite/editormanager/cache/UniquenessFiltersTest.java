@@ -0,0 +1,83 @@
+package org.mobelite.editormanager.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.MagazineDTO;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
+import org.mobelite.editormanager.repositories.BookRepository;
+import org.mobelite.editormanager.repositories.MagazineRepository;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UniquenessFiltersTest {
+
+    private BookRepository bookRepository;
+    private MagazineRepository magazineRepository;
+    private UniquenessFilters uniquenessFilters;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository = mock(BookRepository.class);
+        magazineRepository = mock(MagazineRepository.class);
+        uniquenessFilters = new UniquenessFilters(bookRepository, magazineRepository, 1_000, 0.01);
+
+        when(bookRepository.findAllIsbns()).thenReturn(List.of("ISBN-1", "isbn-2"));
+        when(magazineRepository.findAllIssueNumbers()).thenReturn(List.of(7));
+    }
+
+    @Test
+    void mightContain_shouldAnswerMaybe_untilBuilt() {
+        assertFalse(uniquenessFilters.isReady());
+        assertTrue(uniquenessFilters.mightContainIsbn("ANYTHING"));
+        assertTrue(uniquenessFilters.mightContainIssueNumber(42));
+    }
+
+    @Test
+    void rebuild_shouldNeverReportExistingValuesAsAbsent() {
+        // Act
+        uniquenessFilters.rebuild();
+
+        // Assert
+        assertTrue(uniquenessFilters.mightContainIsbn("ISBN-1"));
+        assertTrue(uniquenessFilters.mightContainIsbn(" ISBN-2 "));
+        assertTrue(uniquenessFilters.mightContainIssueNumber(7));
+    }
+
+    @Test
+    void rebuild_shouldRuleOutMostAbsentValues() {
+        // Act
+        uniquenessFilters.rebuild();
+        long falsePositives = IntStream.range(0, 1_000)
+                .filter(i -> uniquenessFilters.mightContainIsbn("ABSENT-" + i))
+                .count();
+
+        // Assert
+        assertTrue(falsePositives < 50, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void onCatalogChanged_shouldTrackInsertsAndDeletes() {
+        // Arrange
+        uniquenessFilters.rebuild();
+        BookDTO book = new BookDTO(3L, "Title", "ISBN-3", new AuthorBasicDTO(1L, "Author", null), null);
+        MagazineDTO magazine = new MagazineDTO(4L, 8, "Monthly", null, List.of());
+
+        // Act & Assert
+        uniquenessFilters.onCatalogChanged(CatalogChangedEvent.booksCreated(List.of(book)));
+        uniquenessFilters.onCatalogChanged(CatalogChangedEvent.magazineCreated(magazine));
+        assertTrue(uniquenessFilters.mightContainIsbn("ISBN-3"));
+        assertTrue(uniquenessFilters.mightContainIssueNumber(8));
+
+        uniquenessFilters.onCatalogChanged(CatalogChangedEvent.booksDeleted(List.of(book)));
+        uniquenessFilters.onCatalogChanged(CatalogChangedEvent.magazineDeleted(magazine));
+        assertFalse(uniquenessFilters.mightContainIsbn("ISBN-3"));
+        assertFalse(uniquenessFilters.mightContainIssueNumber(8));
+        assertTrue(uniquenessFilters.mightContainIsbn("ISBN-1"));
+    }
+}
@@ -0,0 +1,113 @@
+package org.mobelite.editormanager.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replicaA;
+    private DataSource replicaB;
+    private Connection primaryConnection;
+    private Connection connectionA;
+    private Connection connectionB;
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replicaA = mock(DataSource.class);
+        replicaB = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        connectionA = mock(Connection.class);
+        connectionB = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaA.getConnection()).thenReturn(connectionA);
+        when(replicaB.getConnection()).thenReturn(connectionB);
+        routing = new ReadWriteRoutingDataSource(primary, List.of(replicaA, replicaB));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        RoutingContext.unpin();
+    }
+
+    @Test
+    void getConnection_shouldUsePrimary_outsideReadOnlyTransactions() throws SQLException {
+        // Act & Assert
+        assertSame(primaryConnection, routing.getConnection());
+        verifyNoInteractions(replicaA, replicaB);
+    }
+
+    @Test
+    void getConnection_shouldAlternateReplicas_forReadOnlyTransactions() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        List<Connection> connections = List.of(routing.getConnection(), routing.getConnection(), routing.getConnection());
+
+        // Assert
+        assertEquals(List.of(connectionA, connectionB, connectionA), connections);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void getConnection_shouldUsePrimary_whenPinned() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Connection connection = RoutingContext.callOnPrimary(() -> {
+            try {
+                return routing.getConnection();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        assertFalse(RoutingContext.isPrimaryRequired(), "the pin ends with the call");
+    }
+
+    @Test
+    void getConnection_shouldFallBackToPrimary_whenReplicaIsDown() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaA.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // Act & Assert
+        assertSame(primaryConnection, routing.getConnection());
+    }
+
+    @Test
+    void getConnection_shouldPropagateFailure_whenPrimaryIsDown() throws SQLException {
+        // Arrange
+        when(primary.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // Act & Assert
+        assertThrows(SQLException.class, () -> routing.getConnection());
+    }
+
+    @Test
+    void getConnection_shouldUsePrimary_whenNoReplicaIsConfigured() throws SQLException {
+        // Arrange
+        ReadWriteRoutingDataSource primaryOnly = new ReadWriteRoutingDataSource(primary, List.of());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertSame(primaryConnection, primaryOnly.getConnection());
+    }
+}
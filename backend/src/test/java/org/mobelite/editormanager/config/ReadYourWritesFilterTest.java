@@ -0,0 +1,78 @@
+package org.mobelite.editormanager.config;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMinutes(1));
+
+    // Records whether each request ran pinned to the primary
+    private final List<Boolean> pinned = new ArrayList<>();
+    private final FilterChain chain = (request, response) -> pinned.add(RoutingContext.isPrimaryRequired());
+
+    @Test
+    void doFilter_shouldNotPin_readsFromClientsThatHaveNotWritten() throws Exception {
+        // Act
+        filter.doFilter(request("GET", "10.0.0.1"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertEquals(List.of(false), pinned);
+    }
+
+    @Test
+    void doFilter_shouldPinTheWriteAndTheSameClientsFollowingReads() throws Exception {
+        // Act
+        filter.doFilter(request("POST", "10.0.0.1"), new MockHttpServletResponse(), chain);
+        filter.doFilter(request("GET", "10.0.0.1"), new MockHttpServletResponse(), chain);
+        filter.doFilter(request("GET", "10.0.0.2"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertEquals(List.of(true, true, false), pinned);
+        assertFalse(RoutingContext.isPrimaryRequired(), "the pin must not outlive the request");
+    }
+
+    @Test
+    void doFilter_shouldIdentifyClientsByFirstForwardedHop() throws Exception {
+        // Arrange: same client behind the proxy, reaching it through different proxy addresses
+        MockHttpServletRequest write = request("DELETE", "172.16.0.1");
+        write.addHeader("X-Forwarded-For", "203.0.113.7, 172.16.0.1");
+        MockHttpServletRequest read = request("GET", "172.16.0.2");
+        read.addHeader("X-Forwarded-For", "203.0.113.7");
+
+        // Act
+        filter.doFilter(write, new MockHttpServletResponse(), chain);
+        filter.doFilter(read, new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertEquals(List.of(true, true), pinned);
+    }
+
+    @Test
+    void doFilter_shouldReleaseThePin_afterTheStickyWindow() throws Exception {
+        // Arrange
+        ReadYourWritesFilter shortWindow = new ReadYourWritesFilter(Duration.ofMillis(50));
+        shortWindow.doFilter(request("PUT", "10.0.0.1"), new MockHttpServletResponse(), chain);
+
+        // Act
+        Thread.sleep(150);
+        shortWindow.doFilter(request("GET", "10.0.0.1"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertEquals(List.of(true, false), pinned);
+    }
+
+    private static MockHttpServletRequest request(String method, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/books");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
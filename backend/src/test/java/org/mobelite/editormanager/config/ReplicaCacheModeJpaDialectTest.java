@@ -0,0 +1,102 @@
+package org.mobelite.editormanager.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.entities.Author;
+import org.mobelite.editormanager.repositories.AuthorRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs outside a test transaction so each repository call opens its own, read-only for findById,
+ * exactly as a routed read would.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaCacheModeJpaDialectTest {
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long authorId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        Author author = new Author();
+        author.setName("Replica Author");
+        author.setBirthDate(LocalDate.of(1970, 1, 1));
+        author.setNationality("Nowhere");
+        author.setBooks(new ArrayList<>());
+        authorId = authorRepository.save(author).getId();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        authorRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void readOnlyTransactions_shouldNotPutReplicaRowsIntoTheSecondLevelCache() {
+        // Act
+        authorRepository.findById(authorId).orElseThrow();
+        authorRepository.findById(authorId).orElseThrow();
+
+        // Assert
+        assertEquals(0, statistics.getSecondLevelCachePutCount());
+        assertEquals(2, statistics.getEntityLoadCount(), "every read goes to the database");
+    }
+
+    @Test
+    void readOnlyTransactions_shouldStillPopulateTheCache_whenPinnedToThePrimary() {
+        // Act
+        RoutingContext.callOnPrimary(() -> authorRepository.findById(authorId).orElseThrow());
+        authorRepository.findById(authorId).orElseThrow();
+
+        // Assert
+        assertEquals(1, statistics.getSecondLevelCachePutCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount(), "unpinned reads still use what the primary cached");
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+    @TestConfiguration
+    static class DialectConfig {
+
+        @Bean
+        static BeanPostProcessor replicaCacheModeJpaDialect() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    if (bean instanceof LocalContainerEntityManagerFactoryBean entityManagerFactory) {
+                        entityManagerFactory.setJpaDialect(new ReplicaCacheModeJpaDialect());
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.mobelite.editormanager.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.cache.RequestCoalescer;
+import org.mobelite.editormanager.dto.SuggestionDTO;
+import org.mobelite.editormanager.repositories.PublicationRepository;
+import org.mobelite.editormanager.search.SuggestionIndex;
+import org.mobelite.editormanager.search.TitleSearchIndex;
+import org.mobelite.editormanager.services.PublicationService;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ServiceTimingAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SuggestionIndex suggestionIndex;
+    private PublicationService publicationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        suggestionIndex = mock(SuggestionIndex.class);
+        PublicationService target = new PublicationService(mock(PublicationRepository.class),
+                mock(TitleSearchIndex.class), suggestionIndex, new RequestCoalescer(TransactionOperations.withoutTransaction()));
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceTimingAspect(meterRegistry));
+        publicationService = factory.getProxy();
+    }
+
+    @Test
+    void time_shouldRecordEachCallUnderClassAndMethod() {
+        // Arrange
+        when(suggestionIndex.suggest("ja", 5)).thenReturn(List.<SuggestionDTO>of());
+
+        // Act
+        publicationService.suggest("ja", 5);
+        publicationService.suggest("ja", 5);
+
+        // Assert
+        Timer timer = meterRegistry.get(ServiceTimingAspect.METRIC)
+                .tag("class", "PublicationService")
+                .tag("method", "suggest")
+                .tag("exception", "none")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void time_shouldTagFailuresWithTheExceptionAndRethrow() {
+        // Arrange
+        when(suggestionIndex.suggest("ja", 5)).thenThrow(new IllegalStateException("not ready"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> publicationService.suggest("ja", 5));
+        assertEquals(1, meterRegistry.get(ServiceTimingAspect.METRIC)
+                .tag("exception", "IllegalStateException")
+                .timer()
+                .count());
+    }
+}
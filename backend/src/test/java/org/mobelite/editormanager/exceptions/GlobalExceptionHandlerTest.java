@@ -0,0 +1,69 @@
+package org.mobelite.editormanager.exceptions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GlobalExceptionHandlerTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new FailingController())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void shouldAnswerConflict_whenAServiceRejectsADuplicate() throws Exception {
+        mockMvc.perform(get("/conflict"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.statusCode").value(409))
+                .andExpect(jsonPath("$.message").value("Author already exists"));
+    }
+
+    @Test
+    void shouldAnswerNotFound_whenAServiceCannotFindTheEntity() throws Exception {
+        mockMvc.perform(get("/not-found"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.statusCode").value(404))
+                .andExpect(jsonPath("$.message").value("Author not found with id: 1"));
+    }
+
+    @Test
+    void shouldStillAnswerInternalServerError_forOtherRuntimeExceptions() throws Exception {
+        mockMvc.perform(get("/failure"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.statusCode").value(500))
+                .andExpect(jsonPath("$.message").value("boom"));
+    }
+
+    @RestController
+    static class FailingController {
+
+        @GetMapping("/conflict")
+        void conflict() {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Author already exists");
+        }
+
+        @GetMapping("/not-found")
+        void notFound() {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Author not found with id: 1");
+        }
+
+        @GetMapping("/failure")
+        void failure() {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
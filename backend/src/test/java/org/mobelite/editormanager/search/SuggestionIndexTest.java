@@ -0,0 +1,116 @@
+package org.mobelite.editormanager.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.SuggestionDTO;
+import org.mobelite.editormanager.enums.SuggestionType;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
+import org.mobelite.editormanager.repositories.AuthorRepository;
+import org.mobelite.editormanager.repositories.BookRepository;
+import org.mobelite.editormanager.repositories.MagazineRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SuggestionIndexTest {
+
+    private BookRepository bookRepository;
+    private MagazineRepository magazineRepository;
+    private AuthorRepository authorRepository;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository = mock(BookRepository.class);
+        magazineRepository = mock(MagazineRepository.class);
+        authorRepository = mock(AuthorRepository.class);
+
+        when(bookRepository.countTitlesForSuggestions()).thenReturn(List.of(
+                new SuggestionDTO("Java Fundamentals", SuggestionType.TITLE, 1),
+                new SuggestionDTO("Café Society", SuggestionType.TITLE, 1)
+        ));
+        when(magazineRepository.countTitlesForSuggestions()).thenReturn(List.of(
+                new SuggestionDTO("Java Monthly", SuggestionType.TITLE, 4)
+        ));
+        when(authorRepository.countNamesForSuggestions()).thenReturn(List.of(
+                new SuggestionDTO("Jane Austen", SuggestionType.AUTHOR, 1)
+        ));
+    }
+
+    @Test
+    void suggest_shouldCompleteTitlesAndAuthorsByPopularity() {
+        SuggestionIndex index = new SuggestionIndex(bookRepository, magazineRepository, authorRepository, 1 << 20);
+        index.rebuild();
+
+        assertTrue(index.isReady());
+        assertEquals(List.of("Java Monthly", "Jane Austen", "Java Fundamentals"), texts(index.suggest("JA", 10)));
+        assertEquals(List.of("Café Society"), texts(index.suggest("cafe", 10)));
+        assertTrue(index.suggest("  ", 10).isEmpty());
+    }
+
+    @Test
+    void onCatalogChanged_shouldUpdateCompletionsIncrementally() {
+        SuggestionIndex index = new SuggestionIndex(bookRepository, magazineRepository, authorRepository, 1 << 20);
+        index.rebuild();
+        BookDTO book = new BookDTO(4L, "Effective Java", "ISBN-4", new AuthorBasicDTO(9L, "Joshua Bloch", null), null);
+
+        index.onCatalogChanged(CatalogChangedEvent.authorsCreated(List.of(book.getAuthor()), List.of(book)));
+        assertEquals(List.of("Effective Java"), texts(index.suggest("eff", 10)));
+        assertEquals(List.of("Joshua Bloch"), texts(index.suggest("jos", 10)));
+
+        index.onCatalogChanged(CatalogChangedEvent.authorsDeleted(List.of(book.getAuthor()), List.of(book)));
+        assertTrue(index.suggest("eff", 10).isEmpty());
+        assertTrue(index.suggest("jos", 10).isEmpty());
+    }
+
+    @Test
+    void recordHit_shouldPromoteSearchedTitles() {
+        SuggestionIndex index = new SuggestionIndex(bookRepository, magazineRepository, authorRepository, 1 << 20);
+        index.rebuild();
+
+        for (int i = 0; i < 5; i++) {
+            index.recordHit("java fundamentals");
+        }
+        assertEquals("Java Monthly", index.suggest("java", 1).get(0).getText(), "hits apply on flush");
+
+        index.flushHits();
+
+        assertEquals("Java Fundamentals", index.suggest("java", 1).get(0).getText());
+    }
+
+    @Test
+    void recordHit_shouldStopBufferingNewTexts_whenThePendingBufferIsFull() {
+        SuggestionIndex index = new SuggestionIndex(bookRepository, magazineRepository, authorRepository, 1 << 20);
+        index.rebuild();
+        for (int i = 0; i < SuggestionIndex.MAX_PENDING_HITS; i++) {
+            index.recordHit("unknown query " + i);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            index.recordHit("java fundamentals");
+        }
+        index.flushHits();
+
+        assertEquals("Java Monthly", index.suggest("java", 1).get(0).getText());
+    }
+
+    @Test
+    void rebuild_shouldKeepMostPopularKeysWithinMemoryBudget() {
+        long budget = new SuggestionTrie().estimatedBytes() + SuggestionTrie.estimateCost("java monthly", "Java Monthly");
+        SuggestionIndex index = new SuggestionIndex(bookRepository, magazineRepository, authorRepository, budget);
+        index.rebuild();
+
+        SuggestionIndex.Stats stats = index.getStats();
+        assertEquals(1, stats.keys());
+        assertEquals(3, stats.refused());
+        assertTrue(stats.estimatedBytes() <= budget);
+        assertEquals(List.of("Java Monthly"), texts(index.suggest("j", 10)));
+    }
+
+    private static List<String> texts(List<SuggestionDTO> suggestions) {
+        return suggestions.stream().map(SuggestionDTO::getText).toList();
+    }
+}
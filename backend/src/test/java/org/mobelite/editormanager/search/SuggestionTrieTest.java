@@ -0,0 +1,88 @@
+package org.mobelite.editormanager.search;
+
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.dto.SuggestionDTO;
+import org.mobelite.editormanager.enums.SuggestionType;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionTrieTest {
+
+    @Test
+    void complete_shouldReturnMostPopularKeysUnderPrefixFirst() {
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.add("java fundamentals", SuggestionType.TITLE, "Java Fundamentals", 1);
+        trie.add("java monthly", SuggestionType.TITLE, "Java Monthly", 5);
+        trie.add("javascript", SuggestionType.TITLE, "JavaScript", 3);
+        trie.add("jane austen", SuggestionType.AUTHOR, "Jane Austen", 2);
+
+        assertEquals(List.of("Java Monthly", "JavaScript", "Java Fundamentals"), texts(trie.complete("jav", 10)));
+        assertEquals(List.of("Java Monthly", "JavaScript"), texts(trie.complete("ja", 2)));
+        assertEquals(List.of("Jane Austen"), texts(trie.complete("jane a", 10)));
+        assertTrue(trie.complete("python", 10).isEmpty());
+    }
+
+    @Test
+    void complete_shouldMatchPrefixesEndingInsideACompressedEdge() {
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.add("effective java", SuggestionType.TITLE, "Effective Java", 1);
+
+        assertEquals(List.of("Effective Java"), texts(trie.complete("effec", 10)));
+        assertTrue(trie.complete("effex", 10).isEmpty());
+    }
+
+    @Test
+    void recordHit_shouldRaisePopularity() {
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.add("java fundamentals", SuggestionType.TITLE, "Java Fundamentals", 1);
+        trie.add("java monthly", SuggestionType.TITLE, "Java Monthly", 2);
+
+        assertTrue(trie.recordHit("java fundamentals"));
+        assertTrue(trie.recordHit("java fundamentals"));
+        assertFalse(trie.recordHit("java"));
+
+        List<SuggestionDTO> completions = trie.complete("java", 10);
+        assertEquals("Java Fundamentals", completions.get(0).getText());
+        assertEquals(3, completions.get(0).getPopularity());
+    }
+
+    @Test
+    void remove_shouldDropEntryAtZeroAndReleaseItsNodes() {
+        SuggestionTrie trie = new SuggestionTrie();
+        long empty = trie.estimatedBytes();
+        trie.add("java", SuggestionType.TITLE, "Java", 1);
+        long withJava = trie.estimatedBytes();
+
+        trie.add("java monthly", SuggestionType.TITLE, "Java Monthly", 2);
+        trie.add("javascript", SuggestionType.TITLE, "JavaScript", 1);
+        trie.remove("java monthly", SuggestionType.TITLE, 1);
+        assertTrue(trie.contains("java monthly", SuggestionType.TITLE));
+
+        trie.remove("java monthly", SuggestionType.TITLE, 1);
+        trie.remove("javascript", SuggestionType.TITLE, 1);
+
+        assertFalse(trie.contains("java monthly", SuggestionType.TITLE));
+        assertEquals(1, trie.size());
+        assertEquals(withJava, trie.estimatedBytes());
+
+        trie.remove("java", SuggestionType.TITLE, 1);
+        assertEquals(0, trie.size());
+        assertEquals(empty, trie.estimatedBytes());
+    }
+
+    @Test
+    void add_shouldKeepTitleAndAuthorSharingAKeyApart() {
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.add("victor hugo", SuggestionType.AUTHOR, "Victor Hugo", 1);
+        trie.add("victor hugo", SuggestionType.TITLE, "Victor Hugo", 1);
+
+        assertEquals(2, trie.size());
+        assertEquals(2, trie.complete("victor", 10).size());
+    }
+
+    private static List<String> texts(List<SuggestionDTO> suggestions) {
+        return suggestions.stream().map(SuggestionDTO::getText).toList();
+    }
+}
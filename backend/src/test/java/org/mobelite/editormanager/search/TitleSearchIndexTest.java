@@ -0,0 +1,104 @@
+package org.mobelite.editormanager.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.PublicationDTO;
+import org.mobelite.editormanager.enums.PublicationType;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
+import org.mobelite.editormanager.repositories.PublicationRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TitleSearchIndexTest {
+
+    private PublicationRepository publicationRepository;
+
+    private TitleSearchIndex titleSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        publicationRepository = mock(PublicationRepository.class);
+        titleSearchIndex = new TitleSearchIndex(publicationRepository);
+
+        when(publicationRepository.findAllAsDTO()).thenReturn(List.of(
+                new PublicationDTO(1L, PublicationType.BOOK, "Java Fundamentals", LocalDate.of(2020, 1, 1)),
+                new PublicationDTO(2L, PublicationType.MAGAZINE, "Java Monthly", LocalDate.of(2021, 5, 10)),
+                new PublicationDTO(3L, PublicationType.BOOK, "Café Society", LocalDate.of(2019, 3, 3))
+        ));
+        titleSearchIndex.rebuild();
+    }
+
+    @Test
+    void rebuild_shouldMarkIndexReady() {
+        assertTrue(titleSearchIndex.isReady());
+        assertEquals(3, titleSearchIndex.size());
+    }
+
+    @Test
+    void search_shouldMatchSubstringsCaseAndAccentInsensitively() {
+        assertEquals(List.of(1L, 2L), ids(titleSearchIndex.search("JAVA", 20, 0)));
+        assertEquals(List.of(2L), ids(titleSearchIndex.search("a month", 20, 0)));
+        assertEquals(List.of(3L), ids(titleSearchIndex.search("cafe", 20, 0)));
+        assertTrue(titleSearchIndex.search("python", 20, 0).isEmpty());
+    }
+
+    @Test
+    void search_shouldMatchTermsAnywhereInTheTitle() {
+        assertEquals(List.of(1L), ids(titleSearchIndex.search("fundamentals java", 20, 0)));
+        assertTrue(titleSearchIndex.search("java society", 20, 0).isEmpty());
+    }
+
+    @Test
+    void search_shouldReturnNothing_forQueriesWithoutLettersOrDigits() {
+        assertTrue(titleSearchIndex.search("!!!", 20, 0).isEmpty());
+        assertTrue(titleSearchIndex.search("-", 20, 0).isEmpty());
+    }
+
+    @Test
+    void search_shouldHandleQueriesShorterThanATrigram() {
+        assertEquals(List.of(1L, 2L), ids(titleSearchIndex.search("ja", 20, 0)));
+    }
+
+    @Test
+    void search_shouldRankExactThenPrefixThenInfixMatches() {
+        titleSearchIndex.onCatalogChanged(CatalogChangedEvent.booksCreated(List.of(
+                new BookDTO(4L, "Learning Java", "ISBN-4", new AuthorBasicDTO(1L, "Joshua", null), null),
+                new BookDTO(5L, "Java", "ISBN-5", new AuthorBasicDTO(1L, "Joshua", null), null)
+        )));
+
+        assertEquals(List.of(5L, 1L, 2L, 4L), ids(titleSearchIndex.search("java", 20, 0)));
+    }
+
+    @Test
+    void search_shouldApplyLimitAndOffsetAfterRanking() {
+        titleSearchIndex.onCatalogChanged(CatalogChangedEvent.booksCreated(List.of(
+                new BookDTO(5L, "Java", "ISBN-5", new AuthorBasicDTO(1L, "Joshua", null), null)
+        )));
+
+        assertEquals(List.of(5L, 1L), ids(titleSearchIndex.search("java", 2, 0)));
+        assertEquals(List.of(2L), ids(titleSearchIndex.search("java", 2, 2)));
+        assertTrue(titleSearchIndex.search("java", 2, 10).isEmpty());
+    }
+
+    @Test
+    void onCatalogChanged_shouldAddAndRemoveBooksIncrementally() {
+        BookDTO book = new BookDTO(4L, "Effective Java", "ISBN-4", new AuthorBasicDTO(1L, "Joshua", null), null);
+
+        titleSearchIndex.onCatalogChanged(CatalogChangedEvent.booksCreated(List.of(book)));
+        assertEquals(List.of(1L, 2L, 4L), ids(titleSearchIndex.search("java", 20, 0)));
+
+        titleSearchIndex.onCatalogChanged(CatalogChangedEvent.booksDeleted(List.of(book)));
+        assertEquals(List.of(1L, 2L), ids(titleSearchIndex.search("java", 20, 0)));
+        verify(publicationRepository, times(1)).findAllAsDTO();
+    }
+
+    private static List<Long> ids(List<PublicationDTO> publications) {
+        return publications.stream().map(PublicationDTO::getId).toList();
+    }
+}
@@ -6,14 +6,26 @@ import static org.mockito.Mockito.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.mobelite.editormanager.cache.RequestCoalescer;
+import org.mobelite.editormanager.cache.UniquenessFilters;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
 import org.mobelite.editormanager.dto.AuthorDTO;
+import org.mobelite.editormanager.dto.AuthorExportDTO;
+import org.mobelite.editormanager.dto.BookDTO;
 import org.mobelite.editormanager.entities.Author;
 import org.mobelite.editormanager.entities.Book;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
 import org.mobelite.editormanager.repositories.AuthorRepository;
 import org.mobelite.editormanager.repositories.BookRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 public class AuthorServiceTest {
 
@@ -23,12 +35,23 @@ public class AuthorServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UniquenessFilters uniquenessFilters;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(TransactionOperations.withoutTransaction());
+
     @InjectMocks
     private AuthorService authorService;
 
     @BeforeEach
     public void setup() {
         MockitoAnnotations.openMocks(this);
+        // Filter answers "maybe" unless a test says otherwise, so the database check still runs
+        when(uniquenessFilters.mightContainIsbn(any())).thenReturn(true);
     }
 
     @Test
@@ -73,8 +96,9 @@ public class AuthorServiceTest {
         when(authorRepository.findAuthorByName("Jane Austen")).thenReturn(Optional.of(new Author()));
 
         // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> authorService.addAuthor(request));
-        assertEquals("Author already exists", exception.getMessage());
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> authorService.addAuthor(request));
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        assertEquals("Author already exists", exception.getReason());
 
         verify(authorRepository).findAuthorByName("Jane Austen");
         verifyNoMoreInteractions(authorRepository);
@@ -96,14 +120,15 @@ public class AuthorServiceTest {
         );
 
         when(authorRepository.findAuthorByName("New Author")).thenReturn(Optional.empty());
-        when(bookRepository.existsByIsbn("1234567890")).thenReturn(true);
+        when(bookRepository.findExistingIsbns(List.of("1234567890"))).thenReturn(List.of("1234567890"));
 
         // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> authorService.addAuthor(request));
-        assertEquals("Book with ISBN 1234567890 already exists", exception.getMessage());
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> authorService.addAuthor(request));
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        assertEquals("Book with ISBN 1234567890 already exists", exception.getReason());
 
         verify(authorRepository).findAuthorByName("New Author");
-        verify(bookRepository).existsByIsbn("1234567890");
+        verify(bookRepository).findExistingIsbns(List.of("1234567890"));
         verifyNoMoreInteractions(authorRepository, bookRepository);
     }
 
@@ -127,8 +152,7 @@ public class AuthorServiceTest {
         );
 
         when(authorRepository.findAuthorByName("Author With Books")).thenReturn(Optional.empty());
-        when(bookRepository.existsByIsbn("ISBN-1")).thenReturn(false);
-        when(bookRepository.existsByIsbn("ISBN-2")).thenReturn(false);
+        when(bookRepository.findExistingIsbns(List.of("ISBN-1", "ISBN-2"))).thenReturn(List.of());
 
         ArgumentCaptor<Author> authorCaptor = ArgumentCaptor.forClass(Author.class);
 
@@ -154,21 +178,174 @@ public class AuthorServiceTest {
         assertEquals(captured, book1.getAuthor());
         assertEquals(captured, book2.getAuthor());
 
-        verify(bookRepository).existsByIsbn("ISBN-1");
-        verify(bookRepository).existsByIsbn("ISBN-2");
+        verify(bookRepository).findExistingIsbns(List.of("ISBN-1", "ISBN-2"));
+        verify(bookRepository, never()).existsByIsbn(any());
+    }
+
+    @Test
+    void addAuthor_shouldReportEveryConflictingIsbn_usingChunkedQueries() {
+        // Arrange
+        int bookCount = AuthorService.ISBN_QUERY_CHUNK_SIZE * 2 + 500;
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < bookCount; i++) {
+            Book book = new Book();
+            book.setIsbn("ISBN-" + i);
+            books.add(book);
+        }
+        AuthorDTO request = new AuthorDTO(null, "Prolific", LocalDate.of(1950, 1, 1), "Nowhere", books);
+
+        when(authorRepository.findAuthorByName("Prolific")).thenReturn(Optional.empty());
+        when(bookRepository.findExistingIsbns(anyCollection())).thenReturn(List.of());
+        when(bookRepository.findExistingIsbns(argThat(isbns -> isbns != null && isbns.contains("ISBN-3"))))
+                .thenReturn(List.of("ISBN-3"));
+        when(bookRepository.findExistingIsbns(argThat(isbns -> isbns != null && isbns.contains("ISBN-2400"))))
+                .thenReturn(List.of("ISBN-2400"));
+
+        // Act
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> authorService.addAuthor(request));
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        assertEquals("Books with ISBNs ISBN-3, ISBN-2400 already exist", exception.getReason());
+        verify(bookRepository, times(3)).findExistingIsbns(anyCollection());
+        verify(authorRepository, never()).save(any());
+    }
+
+    @Test
+    void addAuthor_shouldReportEveryDuplicateIsbnInPayload() {
+        // Arrange
+        List<Book> books = new ArrayList<>();
+        for (String isbn : List.of("A", "B", "A", "C", "B")) {
+            Book book = new Book();
+            book.setIsbn(isbn);
+            books.add(book);
+        }
+        AuthorDTO request = new AuthorDTO(null, "Careless", LocalDate.of(1950, 1, 1), "Nowhere", books);
+        when(authorRepository.findAuthorByName("Careless")).thenReturn(Optional.empty());
+
+        // Act
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> authorService.addAuthor(request));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals("Duplicate ISBNs in author request: A, B", exception.getReason());
+        verifyNoInteractions(bookRepository);
     }
 
     @Test
-    void getAllAuthors_shouldReturnListOfAuthors() {
+    void getAllAuthors_shouldReturnMappedAuthors() {
         // Arrange
-        List<Author> authors = List.of(new Author(), new Author());
-        when(authorRepository.findAll()).thenReturn(authors);
+        Author author = new Author();
+        author.setId(1L);
+        author.setName("Jane Austen");
+        author.setBooks(new ArrayList<>());
+        when(authorRepository.findAllWithBooks()).thenReturn(List.of(author, new Author()));
 
         // Act
-        List<Author> result = authorService.getAllAuthors();
+        List<AuthorDTO> result = authorService.getAllAuthors();
 
         // Assert
         assertEquals(2, result.size());
-        verify(authorRepository).findAll();
+        assertEquals("Jane Austen", result.get(0).getName());
+        verify(authorRepository).findAllWithBooks();
+    }
+
+    @Test
+    void streamAuthors_shouldNotTouchBooks_whenBooksAreNotIncluded() {
+        // Arrange
+        AuthorExportDTO author = new AuthorExportDTO(1L, "Jane Austen", LocalDate.of(1775, 12, 16), "British");
+        when(authorRepository.streamAllForExport()).thenReturn(Stream.of(author));
+        List<AuthorExportDTO> emitted = new ArrayList<>();
+
+        // Act
+        authorService.streamAuthors(false, emitted::add);
+
+        // Assert
+        assertEquals(1, emitted.size());
+        assertNull(emitted.get(0).getBooks());
+        verifyNoInteractions(bookRepository);
+    }
+
+    @Test
+    void streamAuthors_shouldAttachBooksFetchedInOneBatch_whenBooksAreIncluded() {
+        // Arrange
+        AuthorExportDTO author1 = new AuthorExportDTO(1L, "Author One", null, "A");
+        AuthorExportDTO author2 = new AuthorExportDTO(2L, "Author Two", null, "B");
+        BookDTO book = new BookDTO(10L, "Title", "ISBN-10", new AuthorBasicDTO(1L, "Author One", "A"), null);
+
+        when(authorRepository.streamAllForExport()).thenReturn(Stream.of(author1, author2));
+        when(bookRepository.findDTOsByAuthorIds(List.of(1L, 2L))).thenReturn(List.of(book));
+        List<AuthorExportDTO> emitted = new ArrayList<>();
+
+        // Act
+        authorService.streamAuthors(true, emitted::add);
+
+        // Assert
+        assertEquals(2, emitted.size());
+        assertEquals(List.of(book), emitted.get(0).getBooks());
+        assertTrue(emitted.get(1).getBooks().isEmpty());
+        verify(bookRepository, times(1)).findDTOsByAuthorIds(anyCollection());
+    }
+
+    @Test
+    void deleteAuthor_shouldDeleteBooksLinksAndAuthorWithSetBasedStatements() {
+        // Arrange
+        AuthorBasicDTO author = new AuthorBasicDTO(7L, "Gone Author", "Nowhere");
+        BookDTO book = new BookDTO(70L, "Gone Book", "ISBN-70", author, null);
+        when(authorRepository.findBasicByIds(List.of(7L))).thenReturn(List.of(author));
+        when(bookRepository.findDTOsByAuthorIds(List.of(7L))).thenReturn(List.of(book));
+
+        // Act
+        authorService.deleteAuthor(7L);
+
+        // Assert
+        InOrder inOrder = inOrder(bookRepository, authorRepository);
+        inOrder.verify(bookRepository).deleteByAuthorIds(List.of(7L));
+        inOrder.verify(authorRepository).deleteMagazineLinksByAuthorIds(List.of(7L));
+        inOrder.verify(authorRepository).deleteAllByIdInBatch(List.of(7L));
+        verify(bookRepository, never()).findAll();
+
+        ArgumentCaptor<CatalogChangedEvent> eventCaptor = ArgumentCaptor.forClass(CatalogChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(CatalogChangedEvent.Change.DELETED, eventCaptor.getValue().getChange());
+        assertEquals(List.of(book), eventCaptor.getValue().getBooks());
+    }
+
+    @Test
+    void deleteAuthor_shouldThrowNotFound_whenAuthorDoesNotExist() {
+        // Arrange
+        when(authorRepository.findBasicByIds(List.of(7L))).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> authorService.deleteAuthor(7L));
+        verifyNoInteractions(bookRepository, eventPublisher);
+    }
+
+    @Test
+    void deleteAuthors_shouldOnlyDeleteExistingIds_andReturnTheirCount() {
+        // Arrange
+        when(authorRepository.findBasicByIds(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new AuthorBasicDTO(1L, "One", null),
+                new AuthorBasicDTO(3L, "Three", null)));
+
+        // Act
+        int deleted = authorService.deleteAuthors(List.of(1L, 2L, 3L));
+
+        // Assert
+        assertEquals(2, deleted);
+        verify(bookRepository).deleteByAuthorIds(List.of(1L, 3L));
+        verify(authorRepository).deleteMagazineLinksByAuthorIds(List.of(1L, 3L));
+        verify(authorRepository).deleteAllByIdInBatch(List.of(1L, 3L));
+    }
+
+    @Test
+    void deleteAuthors_shouldReturnBadRequest_whenTooManyIdsAreListed() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, AuthorService.MAX_BATCH_DELETE + 1).boxed().toList();
+
+        // Act & Assert
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> authorService.deleteAuthors(ids));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        verifyNoInteractions(authorRepository, bookRepository);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,108 @@
+package org.mobelite.editormanager.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.cache.BookLookupCache;
+import org.mobelite.editormanager.cache.RequestCoalescer;
+import org.mobelite.editormanager.cache.UniquenessFilters;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.entities.Author;
+import org.mobelite.editormanager.entities.Book;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({BookService.class, BookLookupCache.class, UniquenessFilters.class, RequestCoalescer.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+class BookServiceQueryCountTest {
+
+    private static final int BACKLIST_SIZE = 50;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void addBook_shouldNotLoadTheAuthorsBibliography() {
+        // Arrange
+        Author author = persistAuthorWithBacklist();
+        statistics.clear();
+
+        BookDTO request = new BookDTO(null, "New Book", "NEW-ISBN-0001",
+                new AuthorBasicDTO(author.getId(), null, null), LocalDate.of(2024, 1, 1));
+
+        // Act
+        BookDTO saved = bookService.addBook(request);
+
+        // Assert
+        assertNotNull(saved.getId());
+        assertEquals("Prolific Author", saved.getAuthor().getName());
+        assertEquals(0, statistics.getCollectionLoadCount(), "author.books must stay uninitialized");
+        assertEquals(1, statistics.getEntityLoadCount(), "only the author row should be loaded");
+    }
+
+    @Test
+    void getByIsbn_shouldLoadBookAndAuthorInOneStatement() {
+        // Arrange
+        persistAuthorWithBacklist();
+        statistics.clear();
+
+        // Act
+        BookDTO book = bookService.getByIsbn("BACKLIST-7").orElseThrow();
+
+        // Assert
+        assertEquals("Prolific Author", book.getAuthor().getName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    private Author persistAuthorWithBacklist() {
+        Author author = new Author();
+        author.setName("Prolific Author");
+        author.setBirthDate(LocalDate.of(1960, 1, 1));
+        author.setNationality("Nowhere");
+        author.setBooks(new ArrayList<>());
+
+        for (int i = 0; i < BACKLIST_SIZE; i++) {
+            Book book = new Book();
+            book.setTitle("Backlist " + i);
+            book.setIsbn("BACKLIST-" + i);
+            book.setPublicationDate(LocalDate.of(2000, 1, 1).plusDays(i));
+            book.setAuthor(author);
+            author.getBooks().add(book);
+        }
+
+        testEntityManager.persist(author);
+        testEntityManager.flush();
+        testEntityManager.clear();
+        return author;
+    }
+}
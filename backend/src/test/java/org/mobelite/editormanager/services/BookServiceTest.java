@@ -3,18 +3,35 @@ package org.mobelite.editormanager.services;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.mobelite.editormanager.cache.BookLookupCache;
+import org.mobelite.editormanager.cache.RequestCoalescer;
+import org.mobelite.editormanager.cache.UniquenessFilters;
 import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.BookBatchResultDTO;
 import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.CursorPage;
 import org.mobelite.editormanager.entities.Author;
 import org.mobelite.editormanager.entities.Book;
+import org.mobelite.editormanager.enums.BatchItemStatus;
+import org.mobelite.editormanager.events.CatalogChangedEvent;
 import org.mobelite.editormanager.repositories.AuthorRepository;
 import org.mobelite.editormanager.repositories.BookRepository;
-
+import org.mobelite.editormanager.utils.Cursor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Stream;
 
 public class BookServiceTest {
 
@@ -24,12 +41,37 @@ public class BookServiceTest {
     @Mock
     private AuthorRepository authorRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UniquenessFilters uniquenessFilters;
+
+    @Spy
+    private BookLookupCache bookLookupCache = new BookLookupCache(100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(TransactionOperations.withoutTransaction());
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private BookService bookService;
 
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
+        // Filter answers "maybe" unless a test says otherwise, so the database check still runs
+        when(uniquenessFilters.mightContainIsbn(any())).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     @Test
@@ -70,6 +112,27 @@ public class BookServiceTest {
         verify(bookRepository).save(any(Book.class));
     }
 
+    @Test
+    void addBook_shouldSkipIsbnQuery_whenFilterRulesItOut() {
+        // Arrange
+        Author author = new Author();
+        author.setId(1L);
+        author.setName("Author Name");
+
+        BookDTO inputDto = new BookDTO(null, "Title", "ISBN12345", new AuthorBasicDTO(1L, null, null), LocalDate.of(2020,1,1));
+
+        when(uniquenessFilters.mightContainIsbn("ISBN12345")).thenReturn(false);
+        when(authorRepository.findById(1L)).thenReturn(Optional.of(author));
+        when(bookRepository.save(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        bookService.addBook(inputDto);
+
+        // Assert
+        verify(bookRepository, never()).existsByIsbn(any());
+        verify(bookRepository).save(any(Book.class));
+    }
+
     @Test
     void addBook_shouldThrow_whenIsbnExists() {
         // Arrange
@@ -141,6 +204,34 @@ public class BookServiceTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void getByIsbn_shouldServeRepeatedLookupsFromCache_includingMisses() {
+        // Arrange
+        Author author = new Author();
+        author.setId(1L);
+        author.setName("Author Name");
+
+        Book book = new Book();
+        book.setTitle("Title");
+        book.setIsbn("ISBN-X");
+        book.setAuthor(author);
+
+        when(bookRepository.findByIsbn("ISBN-X")).thenReturn(Optional.of(book));
+        when(bookRepository.findByIsbn("UNKNOWN")).thenReturn(Optional.empty());
+
+        // Act
+        bookService.getByIsbn("ISBN-X");
+        Optional<BookDTO> cached = bookService.getByIsbn(" isbn-x ");
+        bookService.getByIsbn("UNKNOWN");
+        Optional<BookDTO> cachedMiss = bookService.getByIsbn("UNKNOWN");
+
+        // Assert
+        assertEquals("Title", cached.orElseThrow().getTitle());
+        assertTrue(cachedMiss.isEmpty());
+        verify(bookRepository, times(1)).findByIsbn("ISBN-X");
+        verify(bookRepository, times(1)).findByIsbn("UNKNOWN");
+    }
+
     @Test
     void getBooks_shouldReturnListOfBookDTO() {
         // Arrange
@@ -184,4 +275,136 @@ public class BookServiceTest {
         assertEquals(2L, results.get(1).getAuthor().getId());
         assertEquals("Author Two", results.get(1).getAuthor().getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getBooksAfter_shouldSeekById_andReturnNextCursor() {
+        // Arrange
+        Author author = new Author();
+        author.setId(1L);
+        author.setName("Author One");
+
+        List<Book> rows = new ArrayList<>();
+        for (long id = 11; id <= 13; id++) {
+            Book book = new Book();
+            book.setId(id);
+            book.setTitle("Title" + id);
+            book.setIsbn("ISBN" + id);
+            book.setAuthor(author);
+            rows.add(book);
+        }
+
+        when(bookRepository.findByIdGreaterThanOrderByIdAsc(10L, PageRequest.of(0, 3))).thenReturn(rows);
+
+        // Act
+        CursorPage<BookDTO> result = bookService.getBooksAfter(new Cursor(null, 10L).encode(), 2);
+
+        // Assert
+        assertEquals(2, result.getItems().size());
+        assertTrue(result.isHasNext());
+        assertEquals(12L, Cursor.decode(result.getNextCursor()).getId());
+    }
+
+    @Test
+    void streamBooks_shouldEmitEachProjectedBook_withoutLoadingEntities() {
+        // Arrange
+        BookDTO book1 = new BookDTO(1L, "Title 1", "ISBN1", 1L, "Author One", null, null);
+        BookDTO book2 = new BookDTO(2L, "Title 2", "ISBN2", 1L, "Author One", null, null);
+
+        when(bookRepository.streamAllAsDTO()).thenReturn(Stream.of(book1, book2));
+        List<BookDTO> emitted = new ArrayList<>();
+
+        // Act
+        bookService.streamBooks(emitted::add);
+
+        // Assert
+        assertEquals(List.of("ISBN1", "ISBN2"), emitted.stream().map(BookDTO::getIsbn).toList());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void addBooks_shouldResolveIsbnsAndAuthorsOncePerChunk_andReportEveryItem() {
+        // Arrange
+        Author author = new Author();
+        author.setId(1L);
+        author.setName("Author One");
+
+        BookDTO fresh = new BookDTO(null, "Fresh", "ISBN-NEW", new AuthorBasicDTO(1L, null, null), LocalDate.of(2020, 1, 1));
+        BookDTO existing = new BookDTO(null, "Existing", "ISBN-OLD", new AuthorBasicDTO(1L, null, null), LocalDate.of(2020, 1, 1));
+        BookDTO repeated = new BookDTO(null, "Fresh again", "ISBN-NEW", new AuthorBasicDTO(1L, null, null), LocalDate.of(2020, 1, 1));
+        BookDTO orphan = new BookDTO(null, "Orphan", "ISBN-ORPHAN", new AuthorBasicDTO(2L, null, null), LocalDate.of(2020, 1, 1));
+
+        when(bookRepository.findExistingIsbns(anyCollection())).thenReturn(List.of("ISBN-OLD"));
+        when(authorRepository.loadAllById(anyCollection())).thenReturn(List.of(author));
+        when(bookRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Book> books = invocation.getArgument(0);
+            books.forEach(book -> book.setId(100L));
+            return books;
+        });
+
+        // Act
+        List<BookBatchResultDTO> results = bookService.addBooks(List.of(fresh, existing, repeated, orphan));
+
+        // Assert
+        assertEquals(List.of(BatchItemStatus.CREATED, BatchItemStatus.DUPLICATE_ISBN,
+                        BatchItemStatus.DUPLICATE_ISBN, BatchItemStatus.AUTHOR_NOT_FOUND),
+                results.stream().map(BookBatchResultDTO::getStatus).toList());
+        assertEquals(100L, results.get(0).getId());
+        assertEquals(3, results.get(3).getIndex());
+
+        verify(bookRepository, times(1)).findExistingIsbns(anyCollection());
+        verify(authorRepository, times(1)).loadAllById(anyCollection());
+        verify(bookRepository, never()).existsByIsbn(anyString());
+        verify(authorRepository, never()).findById(anyLong());
+        verify(entityManager).flush();
+    }
+
+    @Test
+    void addBooks_shouldCompareIsbnsCaseInsensitively_andReportNullItemsAsInvalid() {
+        // Arrange
+        Author author = new Author();
+        author.setId(1L);
+
+        BookDTO storedInOtherCase = new BookDTO(null, "Stored", "isbn-old", new AuthorBasicDTO(1L, null, null), LocalDate.of(2020, 1, 1));
+        BookDTO fresh = new BookDTO(null, "Fresh", "isbn-new", new AuthorBasicDTO(1L, null, null), LocalDate.of(2020, 1, 1));
+        BookDTO freshInOtherCase = new BookDTO(null, "Fresh again", "ISBN-NEW", new AuthorBasicDTO(1L, null, null), LocalDate.of(2020, 1, 1));
+
+        when(bookRepository.findExistingIsbns(anyCollection())).thenReturn(List.of("ISBN-OLD"));
+        when(authorRepository.loadAllById(anyCollection())).thenReturn(List.of(author));
+        when(bookRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<BookBatchResultDTO> results = bookService.addBooks(Arrays.asList(storedInOtherCase, null, fresh, freshInOtherCase));
+
+        // Assert
+        assertEquals(List.of(BatchItemStatus.DUPLICATE_ISBN, BatchItemStatus.INVALID,
+                        BatchItemStatus.CREATED, BatchItemStatus.DUPLICATE_ISBN),
+                results.stream().map(BookBatchResultDTO::getStatus).toList());
+        assertEquals(1, results.get(1).getIndex());
+        verify(validator, never()).validate(isNull());
+    }
+
+    @Test
+    void addBooks_shouldCommitEachChunkInItsOwnTransaction() {
+        // Arrange
+        Author author = new Author();
+        author.setId(1L);
+        List<BookDTO> books = new ArrayList<>();
+        for (int i = 0; i <= BookService.BATCH_CHUNK_SIZE; i++) {
+            books.add(new BookDTO(null, "Book " + i, "ISBN-" + i, new AuthorBasicDTO(1L, null, null), LocalDate.of(2020, 1, 1)));
+        }
+
+        when(bookRepository.findExistingIsbns(anyCollection())).thenReturn(List.of());
+        when(authorRepository.loadAllById(anyCollection())).thenReturn(List.of(author));
+        when(bookRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<BookBatchResultDTO> results = bookService.addBooks(books.iterator());
+
+        // Assert
+        assertEquals(BookService.BATCH_CHUNK_SIZE + 1, results.size());
+        assertEquals(BookService.BATCH_CHUNK_SIZE, results.get(BookService.BATCH_CHUNK_SIZE).getIndex());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(eventPublisher, times(2)).publishEvent(any(CatalogChangedEvent.class));
+    }
+}
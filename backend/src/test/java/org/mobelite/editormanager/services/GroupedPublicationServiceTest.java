@@ -0,0 +1,199 @@
+package org.mobelite.editormanager.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.CursorPage;
+import org.mobelite.editormanager.dto.GroupedPublicationsDTO;
+import org.mobelite.editormanager.dto.MagazineDTO;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GroupedPublicationServiceTest {
+
+    private BookService bookService;
+    private MagazineService magazineService;
+    private ExecutorService executor;
+    private GroupedPublicationService groupedPublicationService;
+
+    // Released at the end of each test so no pool thread is left blocked
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        bookService = mock(BookService.class);
+        magazineService = mock(MagazineService.class);
+        executor = Executors.newFixedThreadPool(2);
+        groupedPublicationService = new GroupedPublicationService(bookService, magazineService, executor,
+                TransactionOperations.withoutTransaction(), Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getGrouped_shouldCombineBothPagesAndTheirCursors() {
+        // Arrange
+        BookDTO book = new BookDTO(1L, "Book One", "ISBN-1", new AuthorBasicDTO(1L, "Author", "FR"), LocalDate.of(2020, 1, 1));
+        MagazineDTO magazine = new MagazineDTO(2L, 7, "Monthly", LocalDate.of(2021, 1, 1), List.of());
+        when(bookService.getBooksAfter(null, 1)).thenReturn(new CursorPage<>(List.of(book), 1, true, "next-book"));
+        when(magazineService.getMagazinesAfter("m", 1)).thenReturn(new CursorPage<>(List.of(magazine), 1, false, null));
+
+        // Act
+        GroupedPublicationsDTO result = groupedPublicationService.getGrouped(null, "m", 1, GroupedPublicationService.ALL);
+
+        // Assert
+        assertEquals(List.of(book), result.getBooks());
+        assertEquals(List.of(magazine), result.getMagazines());
+        assertEquals("next-book", result.getBooksNextCursor());
+        assertNull(result.getMagazinesNextCursor());
+    }
+
+    @Test
+    void getGrouped_shouldRunBothBranchesConcurrently() {
+        // Arrange: each branch waits for the other to start, which only succeeds if they overlap
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(bookService.getBooksAfter(null, 10)).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(1, TimeUnit.SECONDS));
+            return new CursorPage<BookDTO>(List.of(), 10, false, null);
+        });
+        when(magazineService.getMagazinesAfter(null, 10)).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(1, TimeUnit.SECONDS));
+            return new CursorPage<MagazineDTO>(List.of(), 10, false, null);
+        });
+
+        // Act
+        GroupedPublicationsDTO result = groupedPublicationService.getGrouped(null, null, 10, GroupedPublicationService.ALL);
+
+        // Assert
+        assertTrue(result.getBooks().isEmpty());
+        assertTrue(result.getMagazines().isEmpty());
+    }
+
+    @Test
+    void getGrouped_shouldReturnGatewayTimeout_whenABranchIsTooSlow() {
+        // Arrange
+        when(bookService.getBooksAfter(null, 10)).thenReturn(new CursorPage<>(List.of(), 10, false, null));
+        when(magazineService.getMagazinesAfter(null, 10)).thenAnswer(invocation -> {
+            release.await();
+            return new CursorPage<MagazineDTO>(List.of(), 10, false, null);
+        });
+
+        // Act & Assert
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> groupedPublicationService.getGrouped(null, null, 10, GroupedPublicationService.ALL));
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, ex.getStatusCode());
+        assertTrue(ex.getReason().contains("magazines"));
+    }
+
+    @Test
+    void getGrouped_shouldFailFast_withoutWaitingForTheOtherBranch() {
+        // Arrange: books block until the end of the test, magazines reject the cursor at once
+        when(bookService.getBooksAfter(null, 10)).thenAnswer(invocation -> {
+            release.await();
+            return new CursorPage<BookDTO>(List.of(), 10, false, null);
+        });
+        when(magazineService.getMagazinesAfter("bad", 10))
+                .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor"));
+
+        // Act
+        long start = System.nanoTime();
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> groupedPublicationService.getGrouped(null, "bad", 10, GroupedPublicationService.ALL));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        assertTrue(elapsedMillis < 200, "should not wait for the books branch to time out");
+    }
+
+    @Test
+    void getGrouped_shouldNotQueryAListLeftOutOfInclude() {
+        // Arrange: books are exhausted, only magazines are still being followed
+        MagazineDTO magazine = new MagazineDTO(2L, 7, "Monthly", LocalDate.of(2021, 1, 1), List.of());
+        when(magazineService.getMagazinesAfter("m", 1)).thenReturn(new CursorPage<>(List.of(magazine), 1, true, "next-m"));
+
+        // Act
+        GroupedPublicationsDTO result = groupedPublicationService.getGrouped(null, "m", 1,
+                Set.of(GroupedPublicationService.MAGAZINES));
+
+        // Assert
+        assertTrue(result.getBooks().isEmpty());
+        assertNull(result.getBooksNextCursor());
+        assertEquals(List.of(magazine), result.getMagazines());
+        assertEquals("next-m", result.getMagazinesNextCursor());
+        verify(bookService, never()).getBooksAfter(any(), anyInt());
+    }
+
+    @Test
+    void getGrouped_shouldReturnBadRequest_forAnUnknownInclude() {
+        // Act & Assert
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> groupedPublicationService.getGrouped(null, null, 10, Set.of("authors")));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        verifyNoInteractions(bookService, magazineService);
+    }
+
+    @Test
+    void getGrouped_shouldCancelAQueuedBranch_soItNeverRuns() {
+        // Arrange: the books load runs at once, the magazines load waits in the queue
+        List<Runnable> queued = new CopyOnWriteArrayList<>();
+        AtomicBoolean firstSubmitted = new AtomicBoolean();
+        Executor oneAtATime = task -> {
+            if (firstSubmitted.getAndSet(true)) {
+                queued.add(task);
+            } else {
+                executor.execute(task);
+            }
+        };
+        groupedPublicationService = new GroupedPublicationService(bookService, magazineService, oneAtATime,
+                TransactionOperations.withoutTransaction(), Duration.ofMillis(200));
+        when(bookService.getBooksAfter("bad", 10))
+                .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor"));
+
+        // Act
+        assertThrows(ResponseStatusException.class,
+                () -> groupedPublicationService.getGrouped("bad", null, 10, GroupedPublicationService.ALL));
+        queued.forEach(Runnable::run);
+
+        // Assert
+        assertEquals(1, queued.size());
+        verify(magazineService, never()).getMagazinesAfter(any(), anyInt());
+    }
+
+    @Test
+    void branchTransaction_shouldBeReadOnly_andTimeOutNoEarlierThanTheBranch() {
+        // Act
+        TransactionTemplate transaction = GroupedPublicationService.branchTransaction(
+                mock(PlatformTransactionManager.class), Duration.ofMillis(1500));
+
+        // Assert
+        assertTrue(transaction.isReadOnly());
+        assertEquals(2, transaction.getTimeout());
+    }
+}
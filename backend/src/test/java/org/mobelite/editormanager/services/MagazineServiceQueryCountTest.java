@@ -0,0 +1,117 @@
+package org.mobelite.editormanager.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.cache.UniquenessFilters;
+import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.CursorPage;
+import org.mobelite.editormanager.dto.MagazineDTO;
+import org.mobelite.editormanager.entities.Author;
+import org.mobelite.editormanager.entities.Book;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({MagazineService.class, UniquenessFilters.class})
+class MagazineServiceQueryCountTest {
+
+    private static final int CONTRIBUTORS = 40;
+    private static final int BOOKS_PER_AUTHOR = 5;
+
+    @Autowired
+    private MagazineService magazineService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void addMagazine_shouldResolveAllContributorsInOneQuery() {
+        // Arrange
+        List<AuthorBasicDTO> contributors = persistContributors();
+        MagazineDTO request = new MagazineDTO(null, 500, "Anthology", LocalDate.of(2025, 1, 1), contributors);
+        statistics.clear();
+
+        // Act
+        MagazineDTO saved = magazineService.addMagazine(request);
+        testEntityManager.flush();
+
+        // Assert
+        assertEquals(CONTRIBUTORS, saved.getAuthors().size());
+        assertEquals(CONTRIBUTORS, statistics.getEntityLoadCount(), "only the author rows should be loaded");
+        assertEquals(0, statistics.getCollectionLoadCount(), "no author's books may be loaded");
+        // Issue-number check, author lookup, id allocation and the three inserts: independent of CONTRIBUTORS
+        assertTrue(statistics.getPrepareStatementCount() <= 8,
+                "statements issued: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getMagazinesAfter_shouldLoadPageAndAuthorsInTwoStatements() {
+        // Arrange
+        List<AuthorBasicDTO> contributors = persistContributors();
+        for (int issue = 1; issue <= 10; issue++) {
+            magazineService.addMagazine(new MagazineDTO(null, issue, "Issue " + issue, LocalDate.of(2025, 1, issue),
+                    contributors.subList(0, issue)));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+
+        // Act
+        CursorPage<MagazineDTO> page = magazineService.getMagazinesAfter(null, 5);
+
+        // Assert
+        assertEquals(5, page.getSize());
+        assertTrue(page.isHasNext());
+        assertEquals(List.of(1, 2, 3, 4, 5), page.getItems().stream().map(magazine -> magazine.getAuthors().size()).toList());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private List<AuthorBasicDTO> persistContributors() {
+        List<AuthorBasicDTO> contributors = new ArrayList<>();
+        for (int a = 0; a < CONTRIBUTORS; a++) {
+            Author author = new Author();
+            author.setName("Contributor " + a);
+            author.setBirthDate(LocalDate.of(1970, 1, 1));
+            author.setNationality("Nowhere");
+            author.setBooks(new ArrayList<>());
+            for (int b = 0; b < BOOKS_PER_AUTHOR; b++) {
+                Book book = new Book();
+                book.setTitle("Book " + a + "-" + b);
+                book.setIsbn("CONTRIB-" + a + "-" + b);
+                book.setPublicationDate(LocalDate.of(2000, 1, 1));
+                book.setAuthor(author);
+                author.getBooks().add(book);
+            }
+            testEntityManager.persist(author);
+            contributors.add(new AuthorBasicDTO(author.getId(), null, null));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        return contributors;
+    }
+}
@@ -6,17 +6,25 @@ import static org.mockito.Mockito.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.mobelite.editormanager.cache.UniquenessFilters;
 import org.mobelite.editormanager.dto.AuthorBasicDTO;
+import org.mobelite.editormanager.dto.CursorPage;
+import org.mobelite.editormanager.dto.MagazineAuthorDTO;
 import org.mobelite.editormanager.dto.MagazineDTO;
 import org.mobelite.editormanager.entities.Author;
 import org.mobelite.editormanager.entities.Magazine;
 import org.mobelite.editormanager.mappers.MagazineMapper;
 import org.mobelite.editormanager.repositories.AuthorRepository;
 import org.mobelite.editormanager.repositories.MagazineRepository;
+import org.mobelite.editormanager.utils.Cursor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 public class MagazineServiceTest {
 
@@ -26,12 +34,20 @@ public class MagazineServiceTest {
     @Mock
     private AuthorRepository authorRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UniquenessFilters uniquenessFilters;
+
     @InjectMocks
     private MagazineService magazineService;
 
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
+        // Filter answers "maybe" unless a test says otherwise, so the database check still runs
+        when(uniquenessFilters.mightContainIssueNumber(anyInt())).thenReturn(true);
     }
 
     @Test
@@ -46,7 +62,7 @@ public class MagazineServiceTest {
         author.setNationality("CountryA");
 
         when(magazineRepository.existsMagazineByIssueNumber(101)).thenReturn(false);
-        when(authorRepository.findById(1L)).thenReturn(Optional.of(author));
+        when(authorRepository.loadAllById(List.of(1L))).thenReturn(List.of(author));
 
         Magazine savedMagazine = MagazineMapper.toEntity(request, List.of(author));
 
@@ -63,7 +79,29 @@ public class MagazineServiceTest {
         assertEquals("Author One", result.getAuthors().get(0).getName());
 
         verify(magazineRepository).existsMagazineByIssueNumber(101);
-        verify(authorRepository).findById(1L);
+        verify(authorRepository).loadAllById(List.of(1L));
+        verify(magazineRepository).save(any(Magazine.class));
+    }
+
+    @Test
+    void addMagazine_shouldSkipIssueNumberQuery_whenFilterRulesItOut() {
+        // Arrange
+        AuthorBasicDTO authorDto = new AuthorBasicDTO(1L, "Author One", "CountryA");
+        MagazineDTO request = new MagazineDTO(null, 102, "Monthly Tech", LocalDate.of(2025, 7, 1), List.of(authorDto));
+
+        Author author = new Author();
+        author.setId(1L);
+        author.setName("Author One");
+
+        when(uniquenessFilters.mightContainIssueNumber(102)).thenReturn(false);
+        when(authorRepository.loadAllById(List.of(1L))).thenReturn(List.of(author));
+        when(magazineRepository.save(any(Magazine.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        magazineService.addMagazine(request);
+
+        // Assert
+        verify(magazineRepository, never()).existsMagazineByIssueNumber(anyInt());
         verify(magazineRepository).save(any(Magazine.class));
     }
 
@@ -89,17 +127,70 @@ public class MagazineServiceTest {
         MagazineDTO request = new MagazineDTO(null,101, "Monthly Tech", LocalDate.of(2025, 7, 1), List.of(authorDto));
 
         when(magazineRepository.existsMagazineByIssueNumber(101)).thenReturn(false);
-        when(authorRepository.findById(1L)).thenReturn(Optional.empty());
+        when(authorRepository.loadAllById(List.of(1L))).thenReturn(List.of());
 
         // Act & Assert
         RuntimeException ex = assertThrows(RuntimeException.class, () -> magazineService.addMagazine(request));
         assertTrue(ex.getMessage().contains("Author not found"));
 
         verify(magazineRepository).existsMagazineByIssueNumber(101);
-        verify(authorRepository).findById(1L);
+        verify(authorRepository).loadAllById(List.of(1L));
         verifyNoMoreInteractions(magazineRepository);
     }
 
+    @Test
+    void addMagazine_shouldReportEveryMissingAuthor_afterOneLookup() {
+        // Arrange
+        Author author = new Author();
+        author.setId(1L);
+        MagazineDTO request = new MagazineDTO(null, 101, "Monthly Tech", LocalDate.of(2025, 7, 1), List.of(
+                new AuthorBasicDTO(1L, null, null),
+                new AuthorBasicDTO(2L, null, null),
+                new AuthorBasicDTO(3L, null, null)
+        ));
+
+        when(authorRepository.loadAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(author));
+
+        // Act
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> magazineService.addMagazine(request));
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+        assertEquals("Authors not found with IDs: 2, 3", ex.getReason());
+        verify(authorRepository).loadAllById(List.of(1L, 2L, 3L));
+        verifyNoMoreInteractions(authorRepository);
+        verify(magazineRepository, never()).save(any());
+    }
+
+    @Test
+    void getMagazinesAfter_shouldAttachAuthorsFromOneBatchQuery() {
+        // Arrange
+        when(magazineRepository.findPageAfter(0L, PageRequest.of(0, 3))).thenReturn(new ArrayList<>(List.of(
+                new MagazineDTO(1L, 1, "First", null),
+                new MagazineDTO(2L, 2, "Second", null),
+                new MagazineDTO(3L, 3, "Third", null)
+        )));
+        when(magazineRepository.findAuthorsByMagazineIds(anyCollection())).thenReturn(List.of(
+                new MagazineAuthorDTO(1L, 10L, "Ada", "UK"),
+                new MagazineAuthorDTO(1L, 11L, "Grace", "US"),
+                new MagazineAuthorDTO(2L, 10L, "Ada", "UK")
+        ));
+
+        // Act
+        CursorPage<MagazineDTO> result = magazineService.getMagazinesAfter(null, 2);
+
+        // Assert
+        assertEquals(2, result.getSize());
+        assertTrue(result.isHasNext());
+        assertEquals(2L, Cursor.decode(result.getNextCursor()).getId());
+        assertEquals(List.of("Ada", "Grace"), result.getItems().get(0).getAuthors().stream().map(AuthorBasicDTO::getName).toList());
+        assertEquals(1, result.getItems().get(1).getAuthors().size());
+
+        verify(magazineRepository).findAuthorsByMagazineIds(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))));
+        verify(magazineRepository, never()).findAll();
+        verifyNoInteractions(authorRepository);
+    }
+
     @Test
     void getAllMagazines_shouldReturnListOfMagazineDTO() {
         // Arrange
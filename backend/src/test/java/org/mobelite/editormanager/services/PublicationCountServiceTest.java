@@ -0,0 +1,35 @@
+package org.mobelite.editormanager.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.repositories.PublicationRepository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PublicationCountServiceTest {
+
+    private PublicationRepository publicationRepository;
+
+    private PublicationCountService publicationCountService;
+
+    @BeforeEach
+    void setUp() {
+        publicationRepository = mock(PublicationRepository.class);
+        publicationCountService = new PublicationCountService(publicationRepository);
+    }
+
+    @Test
+    void getCount_shouldComputeOnce_andServeCachedValueUntilRefresh() {
+        when(publicationRepository.count()).thenReturn(42L, 43L);
+
+        assertEquals(42L, publicationCountService.getCount().total());
+        assertEquals(42L, publicationCountService.getCount().total());
+        verify(publicationRepository, times(1)).count();
+
+        publicationCountService.refresh();
+
+        assertEquals(43L, publicationCountService.getCount().total());
+        verify(publicationRepository, times(2)).count();
+    }
+}
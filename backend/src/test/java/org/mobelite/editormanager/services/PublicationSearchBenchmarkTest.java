@@ -0,0 +1,161 @@
+package org.mobelite.editormanager.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.cache.RequestCoalescer;
+import org.mobelite.editormanager.dto.PublicationDTO;
+import org.mobelite.editormanager.entities.Author;
+import org.mobelite.editormanager.entities.Book;
+import org.mobelite.editormanager.entities.Magazine;
+import org.mobelite.editormanager.mappers.PublicationMapper;
+import org.mobelite.editormanager.repositories.BookRepository;
+import org.mobelite.editormanager.repositories.MagazineRepository;
+import org.mobelite.editormanager.search.SuggestionIndex;
+import org.mobelite.editormanager.search.TitleSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the single projected title search against the previous two-query search that
+ * hydrated Book and Magazine entities (and each book's EAGER author) before mapping.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PublicationService.class, RequestCoalescer.class})
+class PublicationSearchBenchmarkTest {
+
+    private static final int AUTHORS = 10;
+    private static final int BOOKS_PER_AUTHOR = 20;
+    private static final int MAGAZINES = 20;
+    private static final int WARMUP_ROUNDS = 5;
+
+    @Autowired
+    private PublicationService publicationService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MagazineRepository magazineRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Not ready, so searchByTitle takes the database path being measured
+    @MockitoBean
+    private TitleSearchIndex titleSearchIndex;
+
+    @MockitoBean
+    private SuggestionIndex suggestionIndex;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        seedCatalog();
+    }
+
+    @Test
+    void searchByTitle_shouldUseOneRoundTripHydrateNoEntitiesAndAllocateLess() {
+        // Arrange
+        int matches = AUTHORS * BOOKS_PER_AUTHOR + MAGAZINES;
+
+        // Act
+        Measurement legacy = measure(this::legacySearch);
+        Measurement projected = measure(() -> publicationService.searchByTitle("java", matches, 0));
+
+        // Assert: the legacy search returned every match, the current one clamps to a page
+        assertEquals(matches, legacy.results());
+        assertEquals(Math.min(matches, PublicationService.MAX_PAGE_SIZE), projected.results());
+
+        assertEquals(1, projected.statements());
+        assertEquals(0, projected.entityLoads());
+        assertEquals(2 + AUTHORS, legacy.statements(), "books, magazines, then one select per distinct author");
+        assertTrue(legacy.entityLoads() > 0);
+        assertTrue(projected.allocatedBytes() < legacy.allocatedBytes(),
+                "projected search allocated " + projected.allocatedBytes() + " bytes, legacy " + legacy.allocatedBytes());
+    }
+
+    // The search as it ran before: two LIKE queries, entities mapped to DTOs in Java
+    private List<PublicationDTO> legacySearch() {
+        List<PublicationDTO> results = new ArrayList<>();
+        bookRepository.findByTitleContainingIgnoreCase("java").forEach(book -> results.add(PublicationMapper.toDTO(book)));
+        magazineRepository.findByTitleContainingIgnoreCase("java").forEach(magazine -> results.add(PublicationMapper.toDTO(magazine)));
+        return results;
+    }
+
+    private Measurement measure(Supplier<List<PublicationDTO>> search) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            search.get();
+            testEntityManager.clear();
+        }
+
+        // Measure with a cold second-level cache; warm, the legacy search would skip the author selects
+        entityManagerFactory.getCache().evictAll();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        statistics.clear();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        int results = search.get().size();
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        Measurement measurement = new Measurement(results, statistics.getPrepareStatementCount(),
+                statistics.getEntityLoadCount(), allocated);
+        testEntityManager.clear();
+        return measurement;
+    }
+
+    private void seedCatalog() {
+        List<Author> authors = new ArrayList<>();
+        for (int a = 0; a < AUTHORS; a++) {
+            Author author = new Author();
+            author.setName("Author " + a);
+            author.setBirthDate(LocalDate.of(1960, 1, 1));
+            author.setNationality("Nowhere");
+            author.setBooks(new ArrayList<>());
+            for (int b = 0; b < BOOKS_PER_AUTHOR; b++) {
+                Book book = new Book();
+                book.setTitle("Java Volume " + a + "-" + b);
+                book.setIsbn("BENCH-" + a + "-" + b);
+                book.setPublicationDate(LocalDate.of(2000, 1, 1).plusDays(b));
+                book.setAuthor(author);
+                author.getBooks().add(book);
+            }
+            testEntityManager.persist(author);
+            authors.add(author);
+        }
+
+        for (int m = 0; m < MAGAZINES; m++) {
+            Magazine magazine = new Magazine();
+            magazine.setTitle("Java Monthly " + m);
+            magazine.setIssueNumber(m + 1);
+            magazine.setPublicationDate(LocalDate.of(2021, 1, 1).plusMonths(m));
+            magazine.setAuthors(new ArrayList<>(List.of(authors.get(m % AUTHORS))));
+            testEntityManager.persist(magazine);
+        }
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    private record Measurement(int results, long statements, long entityLoads, long allocatedBytes) {
+    }
+}
@@ -2,15 +2,20 @@ package org.mobelite.editormanager.services;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mobelite.editormanager.cache.RequestCoalescer;
+import org.mobelite.editormanager.dto.CursorPage;
 import org.mobelite.editormanager.dto.PublicationDTO;
+import org.mobelite.editormanager.dto.SliceDTO;
 import org.mobelite.editormanager.entities.Book;
 import org.mobelite.editormanager.entities.Magazine;
 import org.mobelite.editormanager.entities.Publication;
 import org.mobelite.editormanager.enums.PublicationType;
-import org.mobelite.editormanager.repositories.BookRepository;
-import org.mobelite.editormanager.repositories.MagazineRepository;
 import org.mobelite.editormanager.repositories.PublicationRepository;
+import org.mobelite.editormanager.search.SuggestionIndex;
+import org.mobelite.editormanager.search.TitleSearchIndex;
+import org.mobelite.editormanager.utils.Cursor;
 import org.springframework.data.domain.*;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -21,17 +26,17 @@ import static org.mockito.Mockito.*;
 class PublicationServiceTest {
 
     private PublicationRepository publicationRepository;
-    private MagazineRepository magazineRepository;
-    private BookRepository bookRepository;
+    private TitleSearchIndex titleSearchIndex;
+    private SuggestionIndex suggestionIndex;
 
     private PublicationService publicationService;
 
     @BeforeEach
     void setUp() {
         publicationRepository = mock(PublicationRepository.class);
-        magazineRepository = mock(MagazineRepository.class);
-        bookRepository = mock(BookRepository.class);
-        publicationService = new PublicationService(publicationRepository, magazineRepository, bookRepository);
+        titleSearchIndex = mock(TitleSearchIndex.class);
+        suggestionIndex = mock(SuggestionIndex.class);
+        publicationService = new PublicationService(publicationRepository, titleSearchIndex, suggestionIndex, new RequestCoalescer(TransactionOperations.withoutTransaction()));
     }
 
     @Test
@@ -50,17 +55,29 @@ class PublicationServiceTest {
     }
 
     @Test
-    void searchByTitle_shouldReturnCombinedBookAndMagazineResults() {
-        Book book = new Book();
-        book.setTitle("Java Fundamentals");
-        book.setPublicationDate(LocalDate.of(2020, 1, 1));
+    void getPublicationSlice_shouldReturnSliceWithoutCounting() {
+        Pageable pageable = PageRequest.of(0, 1);
+        Publication publication = new Book();
+        publication.setTitle("Some Book");
+        Slice<Publication> slice = new SliceImpl<>(List.of(publication), pageable, true);
+
+        when(publicationRepository.findAllBy(pageable)).thenReturn(slice);
 
-        Magazine magazine = new Magazine();
-        magazine.setTitle("Java Monthly");
-        magazine.setPublicationDate(LocalDate.of(2021, 5, 10));
+        SliceDTO<PublicationDTO> result = publicationService.getPublicationSlice(pageable);
 
-        when(bookRepository.findByTitleContainingIgnoreCase("java")).thenReturn(List.of(book));
-        when(magazineRepository.findByTitleContainingIgnoreCase("java")).thenReturn(List.of(magazine));
+        assertEquals(1, result.getSize());
+        assertTrue(result.isHasNext());
+        assertEquals("Some Book", result.getContent().get(0).getTitle());
+        verify(publicationRepository, never()).count();
+        verify(publicationRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void searchByTitle_shouldQueryBothTypesInOneProjectedStatement_whenIndexIsNotReady() {
+        when(publicationRepository.searchByTitleAsDTO("java")).thenReturn(List.of(
+                new PublicationDTO(1L, PublicationType.BOOK, "Java Fundamentals", LocalDate.of(2020, 1, 1)),
+                new PublicationDTO(2L, PublicationType.MAGAZINE, "Java Monthly", LocalDate.of(2021, 5, 10))
+        ));
 
         List<PublicationDTO> result = publicationService.searchByTitle("java");
 
@@ -68,7 +85,112 @@ class PublicationServiceTest {
         assertTrue(result.stream().anyMatch(p -> p.getType() == PublicationType.BOOK));
         assertTrue(result.stream().anyMatch(p -> p.getType() == PublicationType.MAGAZINE));
 
-        verify(bookRepository).findByTitleContainingIgnoreCase("java");
-        verify(magazineRepository).findByTitleContainingIgnoreCase("java");
+        verify(publicationRepository).searchByTitleAsDTO("java");
+    }
+
+    @Test
+    void searchByTitle_shouldQueryTheLongestTerm_soWildcardsNeverReachTheLikePattern() {
+        publicationService.searchByTitle("100%_done!");
+
+        verify(publicationRepository).searchByTitleAsDTO("done");
+    }
+
+    @Test
+    void searchByTitle_shouldMatchEveryTermLikeTheIndex_whenFallingBackToTheDatabase() {
+        when(publicationRepository.searchByTitleAsDTO("programming")).thenReturn(List.of(
+                new PublicationDTO(1L, PublicationType.BOOK, "Programming in Java", null),
+                new PublicationDTO(2L, PublicationType.BOOK, "Programming Pearls", null)
+        ));
+
+        List<PublicationDTO> result = publicationService.searchByTitle("java programming");
+
+        assertEquals(List.of(1L), result.stream().map(PublicationDTO::getId).toList());
+    }
+
+    @Test
+    void searchByTitle_shouldReturnNothing_forQueriesWithoutLettersOrDigits() {
+        assertTrue(publicationService.searchByTitle("!!!").isEmpty());
+        assertTrue(publicationService.searchByTitle("-").isEmpty());
+
+        verifyNoInteractions(publicationRepository, titleSearchIndex, suggestionIndex);
+    }
+
+    @Test
+    void getPublicationsAfter_shouldReturnFirstPageWithNextCursor_whenMoreRowsExist() {
+        Book first = new Book();
+        first.setId(1L);
+        first.setTitle("Alpha");
+        Book second = new Book();
+        second.setId(2L);
+        second.setTitle("Beta");
+        Magazine third = new Magazine();
+        third.setId(3L);
+        third.setTitle("Gamma");
+
+        when(publicationRepository.findAllByOrderByTitleAscIdAsc(PageRequest.of(0, 3)))
+                .thenReturn(List.of(first, second, third));
+
+        CursorPage<PublicationDTO> result = publicationService.getPublicationsAfter(null, 2);
+
+        assertEquals(2, result.getSize());
+        assertTrue(result.isHasNext());
+        assertEquals("Beta", result.getItems().get(1).getTitle());
+
+        Cursor next = Cursor.decode(result.getNextCursor());
+        assertEquals("Beta", next.getSortKey());
+        assertEquals(2L, next.getId());
+    }
+
+    @Test
+    void getPublicationsAfter_shouldSeekPastCursor_andStopOnLastPage() {
+        Magazine last = new Magazine();
+        last.setId(3L);
+        last.setTitle("Gamma");
+        String after = new Cursor("Beta", 2L).encode();
+
+        when(publicationRepository.findPageAfter("Beta", 2L, PageRequest.of(0, 3))).thenReturn(List.of(last));
+
+        CursorPage<PublicationDTO> result = publicationService.getPublicationsAfter(after, 2);
+
+        assertEquals(1, result.getSize());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertEquals(PublicationType.MAGAZINE, result.getItems().get(0).getType());
+        verify(publicationRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void searchByTitle_shouldAnswerFromIndex_whenIndexIsReady() {
+        PublicationDTO hit = new PublicationDTO(1L, PublicationType.BOOK, "Java Fundamentals", null);
+        when(titleSearchIndex.isReady()).thenReturn(true);
+        when(titleSearchIndex.search("java", PublicationService.DEFAULT_SEARCH_LIMIT, 0)).thenReturn(List.of(hit));
+
+        List<PublicationDTO> result = publicationService.searchByTitle("java");
+
+        assertEquals(List.of(hit), result);
+        verify(suggestionIndex).recordHit("java");
+        verify(publicationRepository, never()).searchByTitleAsDTO(any());
+    }
+
+    @Test
+    void searchByTitle_shouldRankDatabaseFallbackAndApplyLimit() {
+        when(publicationRepository.searchByTitleAsDTO("java")).thenReturn(List.of(
+                new PublicationDTO(1L, PublicationType.BOOK, "Learning Java", null),
+                new PublicationDTO(2L, PublicationType.BOOK, "Java", null),
+                new PublicationDTO(3L, PublicationType.MAGAZINE, "Java Monthly", null)
+        ));
+
+        List<PublicationDTO> result = publicationService.searchByTitle("java", 2, 0);
+
+        assertEquals(List.of(2L, 3L), result.stream().map(PublicationDTO::getId).toList());
+    }
+
+    @Test
+    void searchByTitle_shouldClampLimitAndOffset() {
+        when(titleSearchIndex.isReady()).thenReturn(true);
+
+        publicationService.searchByTitle("java", 10_000, -5);
+
+        verify(titleSearchIndex).search("java", PublicationService.MAX_PAGE_SIZE, 0);
     }
-}
\ No newline at end of file
+}
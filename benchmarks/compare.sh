@@ -0,0 +1,26 @@
+#!/bin/bash
+# Compares two JMH JSON result files benchmark by benchmark: throughput and bytes allocated per
+# operation, with the relative change. Needs jq.
+#   ./compare.sh baselines/baseline.json results/20250101-120000.json
+set -e
+
+if [[ $# -ne 2 ]]; then
+  echo "Usage: $0 <baseline.json> <result.json>" && exit 1
+fi
+
+# benchmark + params -> [ops/s, B/op]; the GC metric lost its leading dot in newer JMH versions
+EXTRACT='map({
+  key: ((.benchmark | split(".") | .[-2:] | join(".")) + (if .params then " " + (.params | to_entries | map("\(.key)=\(.value)") | join(",")) else "" end)),
+  value: [.primaryMetric.score, ((.secondaryMetrics["gc.alloc.rate.norm"] // .secondaryMetrics["·gc.alloc.rate.norm"] // {}).score)]
+}) | from_entries'
+
+jq -r -n \
+  --argjson base "$(jq "$EXTRACT" "$1")" \
+  --argjson current "$(jq "$EXTRACT" "$2")" '
+  def pct(a; b): if a == null or b == null or a == 0 then "n/a" else "\(((b - a) / a * 1000 | round) / 10)%" end;
+  def num(x): if x == null then "n/a" else (x | round | tostring) end;
+  ["benchmark", "ops/s base", "ops/s now", "change", "B/op base", "B/op now", "change"],
+  ($current | keys[] as $k | [$k,
+    num($base[$k][0]), num($current[$k][0]), pct($base[$k][0]; $current[$k][0]),
+    num($base[$k][1]), num($current[$k][1]), pct($base[$k][1]; $current[$k][1])])
+  | @tsv' | if command -v column >/dev/null; then column -t -s $'\t'; else cat; fi
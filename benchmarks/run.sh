@@ -0,0 +1,30 @@
+#!/bin/bash
+# Builds the benchmark jar and runs it with the GC profiler, writing JMH's JSON results to
+# results/<timestamp>.json. Extra arguments go to JMH (e.g. a benchmark regex, -p size=1000).
+#   ./run.sh                      all benchmarks
+#   ./run.sh MapperBenchmark      one class
+#   ./run.sh --save-baseline      all benchmarks, then store the result as baselines/baseline.json
+set -e
+cd "$(dirname "$0")"
+
+SAVE_BASELINE=false
+if [[ "$1" == "--save-baseline" ]]; then
+  SAVE_BASELINE=true
+  shift
+fi
+
+mkdir -p results
+RESULT="results/$(date +%Y%m%d-%H%M%S).json"
+
+echo "🔨 Building benchmarks..."
+mvn -q -B clean package
+
+echo "⏱️  Running benchmarks, results in $RESULT"
+java -jar target/benchmarks.jar -prof gc -rf json -rff "$RESULT" "$@"
+
+if $SAVE_BASELINE; then
+  cp "$RESULT" baselines/baseline.json
+  echo "📌 Saved as baselines/baseline.json"
+else
+  [[ -f baselines/baseline.json ]] && ./compare.sh baselines/baseline.json "$RESULT"
+fi
@@ -0,0 +1,86 @@
+package org.mobelite.editormanager.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.mobelite.editormanager.entities.Author;
+import org.mobelite.editormanager.entities.Book;
+import org.mobelite.editormanager.entities.Magazine;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic catalogs shaped like the application's data: every author has a few books and
+ * every magazine a few authors, with titles and names of typical length.
+ */
+final class CatalogFixtures {
+    static final int BOOKS_PER_AUTHOR = 5;
+    static final int AUTHORS_PER_MAGAZINE = 3;
+
+    private CatalogFixtures() {
+    }
+
+    /** {@code count} authors, each with {@link #BOOKS_PER_AUTHOR} books linked back to them. */
+    static List<Author> authors(int count) {
+        List<Author> authors = new ArrayList<>(count);
+        long bookId = 1;
+        for (int a = 0; a < count; a++) {
+            Author author = new Author();
+            author.setId((long) a + 1);
+            author.setName("Author Number " + a);
+            author.setBirthDate(LocalDate.of(1950, 1, 1).plusDays(a * 37L));
+            author.setNationality(a % 2 == 0 ? "French" : "Tunisian");
+            author.setBooks(new ArrayList<>(BOOKS_PER_AUTHOR));
+            for (int b = 0; b < BOOKS_PER_AUTHOR; b++) {
+                Book book = new Book();
+                book.setId(bookId++);
+                book.setTitle("The Collected Works of Author " + a + ", Volume " + (b + 1));
+                book.setIsbn(String.format("978-%010d", a * BOOKS_PER_AUTHOR + b));
+                book.setPublicationDate(LocalDate.of(2000, 1, 1).plusDays(a * 11L + b));
+                book.setAuthor(author);
+                author.getBooks().add(book);
+            }
+            authors.add(author);
+        }
+        return authors;
+    }
+
+    /** The first {@code count} books of enough authors to hold them. */
+    static List<Book> books(int count) {
+        return authors((count + BOOKS_PER_AUTHOR - 1) / BOOKS_PER_AUTHOR).stream()
+                .flatMap(author -> author.getBooks().stream())
+                .limit(count)
+                .toList();
+    }
+
+    /** {@code count} magazines, each with {@link #AUTHORS_PER_MAGAZINE} authors from a shared pool. */
+    static List<Magazine> magazines(int count) {
+        List<Author> pool = authors(Math.max(AUTHORS_PER_MAGAZINE, count / 2));
+        List<Magazine> magazines = new ArrayList<>(count);
+        for (int m = 0; m < count; m++) {
+            Magazine magazine = new Magazine();
+            magazine.setId((long) m + 1);
+            magazine.setTitle("Monthly Review of Letters");
+            magazine.setIssueNumber(m + 1);
+            magazine.setPublicationDate(LocalDate.of(2010, 1, 1).plusMonths(m));
+            List<Author> authors = new ArrayList<>(AUTHORS_PER_MAGAZINE);
+            for (int a = 0; a < AUTHORS_PER_MAGAZINE; a++) {
+                authors.add(pool.get((m + a) % pool.size()));
+            }
+            magazine.setAuthors(authors);
+            magazines.add(magazine);
+        }
+        return magazines;
+    }
+
+    // Configured like Spring Boot's auto-configured mapper: ISO dates rather than timestamps
+    static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
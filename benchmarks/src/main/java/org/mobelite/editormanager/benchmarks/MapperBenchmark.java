@@ -0,0 +1,81 @@
+package org.mobelite.editormanager.benchmarks;
+
+import org.mobelite.editormanager.dto.AuthorDTO;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.MagazineDTO;
+import org.mobelite.editormanager.dto.PublicationDTO;
+import org.mobelite.editormanager.entities.Author;
+import org.mobelite.editormanager.entities.Book;
+import org.mobelite.editormanager.entities.Magazine;
+import org.mobelite.editormanager.entities.Publication;
+import org.mobelite.editormanager.mappers.AuthorMapper;
+import org.mobelite.editormanager.mappers.BookMapper;
+import org.mobelite.editormanager.mappers.MagazineMapper;
+import org.mobelite.editormanager.mappers.PublicationMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping of a whole list, as done for every list response. One operation maps
+ * {@code size} rows; run with {@code -prof gc} for the allocation per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private List<Author> authors;
+    private List<Book> books;
+    private List<Magazine> magazines;
+    private List<Publication> publications;
+
+    @Setup
+    public void setUp() {
+        authors = CatalogFixtures.authors(size);
+        books = CatalogFixtures.books(size);
+        magazines = CatalogFixtures.magazines(size);
+        // Half books, half magazines, like the mixed publication listing
+        publications = new ArrayList<>(size);
+        publications.addAll(books.subList(0, size / 2));
+        publications.addAll(magazines.subList(0, size - size / 2));
+    }
+
+    @Benchmark
+    public List<AuthorDTO> authors() {
+        return authors.stream().map(AuthorMapper::toDTO).toList();
+    }
+
+    @Benchmark
+    public List<BookDTO> books() {
+        return books.stream().map(BookMapper::toDTO).toList();
+    }
+
+    @Benchmark
+    public List<MagazineDTO> magazines() {
+        return magazines.stream().map(MagazineMapper::toDTO).toList();
+    }
+
+    @Benchmark
+    public List<PublicationDTO> publications() {
+        return publications.stream().map(PublicationMapper::toDTO).toList();
+    }
+}
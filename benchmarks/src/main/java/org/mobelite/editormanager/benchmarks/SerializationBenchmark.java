@@ -0,0 +1,77 @@
+package org.mobelite.editormanager.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.mobelite.editormanager.dto.ApiResponse;
+import org.mobelite.editormanager.dto.AuthorDTO;
+import org.mobelite.editormanager.dto.BookDTO;
+import org.mobelite.editormanager.dto.MagazineDTO;
+import org.mobelite.editormanager.mappers.AuthorMapper;
+import org.mobelite.editormanager.mappers.BookMapper;
+import org.mobelite.editormanager.mappers.MagazineMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the {@code ApiResponse<List<...>>} bodies served by the list endpoints
+ * (and built into the response snapshots), from DTOs already mapped. One operation writes the
+ * whole body of {@code size} rows to a byte array.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ApiResponse<List<AuthorDTO>> authors;
+    private ApiResponse<List<BookDTO>> books;
+    private ApiResponse<List<MagazineDTO>> magazines;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = CatalogFixtures.objectMapper();
+        writer = objectMapper.writer();
+        LocalDateTime timestamp = LocalDateTime.of(2025, 1, 1, 12, 0);
+        authors = new ApiResponse<>(200, "Authors fetched successfully",
+                CatalogFixtures.authors(size).stream().map(AuthorMapper::toDTO).toList(), timestamp);
+        books = new ApiResponse<>(200, "Books fetched successfully",
+                CatalogFixtures.books(size).stream().map(BookMapper::toDTO).toList(), timestamp);
+        magazines = new ApiResponse<>(200, "Found " + size + " magazines",
+                CatalogFixtures.magazines(size).stream().map(MagazineMapper::toDTO).toList(), timestamp);
+    }
+
+    @Benchmark
+    public byte[] authors() throws JsonProcessingException {
+        return writer.writeValueAsBytes(authors);
+    }
+
+    @Benchmark
+    public byte[] books() throws JsonProcessingException {
+        return writer.writeValueAsBytes(books);
+    }
+
+    @Benchmark
+    public byte[] magazines() throws JsonProcessingException {
+        return writer.writeValueAsBytes(magazines);
+    }
+}
@@ -0,0 +1,9 @@
+#!/bin/bash
+# Runs once, when the primary's data directory is first initialized (docker-entrypoint-initdb.d).
+# The replica connects as this user; it may only read the binary log.
+set -e
+
+docker_process_sql <<-EOSQL
+	CREATE USER '${MYSQL_REPLICATION_USER}'@'%' IDENTIFIED BY '${MYSQL_REPLICATION_PASSWORD}';
+	GRANT REPLICATION SLAVE ON *.* TO '${MYSQL_REPLICATION_USER}'@'%';
+EOSQL
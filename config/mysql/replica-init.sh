@@ -0,0 +1,20 @@
+#!/bin/bash
+# Runs once, when the replica's data directory is first initialized (docker-entrypoint-initdb.d).
+# GTID auto-positioning lets the replica pick up everything the primary has logged so far,
+# including the primary's own database and application user. The replica therefore creates
+# neither itself, and RESET MASTER drops whatever its own initialization logged, so the GTID
+# sets cannot overlap and no replayed CREATE USER collides with a local one.
+set -e
+
+docker_process_sql <<-EOSQL
+	RESET MASTER;
+	CHANGE REPLICATION SOURCE TO
+	  SOURCE_HOST='${SOURCE_HOST}',
+	  SOURCE_PORT=3306,
+	  SOURCE_USER='${MYSQL_REPLICATION_USER}',
+	  SOURCE_PASSWORD='${MYSQL_REPLICATION_PASSWORD}',
+	  SOURCE_AUTO_POSITION=1,
+	  SOURCE_CONNECT_RETRY=5,
+	  GET_SOURCE_PUBLIC_KEY=1;
+	START REPLICA;
+EOSQL
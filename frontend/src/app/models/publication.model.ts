@@ -5,6 +5,9 @@ import {ApiResponse} from './api-response.model';
 export interface PublicationGrouped {
   books: Book[];
   magazines: Magazine[];
+  // Set while more rows exist; pass back as booksAfter / magazinesAfter
+  booksNextCursor?: string | null;
+  magazinesNextCursor?: string | null;
 }
 
 export type PublicationGroupedResponse = ApiResponse<PublicationGrouped>;
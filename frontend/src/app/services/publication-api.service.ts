@@ -1,9 +1,10 @@
 // src/app/services/publication-api.service.ts
 
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { environment } from '../../environments/environment';
-import { Observable } from 'rxjs';
+import { EMPTY, Observable } from 'rxjs';
+import { expand, map, reduce } from 'rxjs/operators';
 import {PublicationGroupedResponse} from '../models/publication.model';
 
 @Injectable({
@@ -14,7 +15,51 @@ export class PublicationApiService {
 
   constructor(private http: HttpClient) {}
 
+  /**
+   * Every book and magazine. The endpoint returns them a page at a time, each list with its own
+   * cursor, so this follows both cursors, each only until its list is exhausted, and merges the
+   * pages into a single response.
+   */
   getGroupedPublications(): Observable<PublicationGroupedResponse> {
-    return this.http.get<PublicationGroupedResponse>(this.baseUrl);
+    return this.getPage(null, null, ['books', 'magazines']).pipe(
+      expand(response => {
+        // A null cursor means that list is exhausted, or was left out: stop asking for it
+        const booksAfter = response.data?.booksNextCursor ?? null;
+        const magazinesAfter = response.data?.magazinesNextCursor ?? null;
+        const include = [
+          ...(booksAfter ? ['books'] : []),
+          ...(magazinesAfter ? ['magazines'] : []),
+        ];
+        return include.length ? this.getPage(booksAfter, magazinesAfter, include) : EMPTY;
+      }),
+      reduce<PublicationGroupedResponse, PublicationGroupedResponse | null>((merged, response) => {
+        const books = response.data?.books ?? [];
+        const magazines = response.data?.magazines ?? [];
+        if (!merged) {
+          return {...response, data: {books, magazines}};
+        }
+        return {
+          ...merged,
+          data: {
+            books: [...(merged.data?.books ?? []), ...books],
+            magazines: [...(merged.data?.magazines ?? []), ...magazines],
+          },
+        };
+      }, null),
+      map(merged => merged as PublicationGroupedResponse)
+    );
+  }
+
+  // Only the lists in include are queried; the others come back empty, without a cursor
+  private getPage(booksAfter: string | null, magazinesAfter: string | null,
+                  include: string[]): Observable<PublicationGroupedResponse> {
+    let params = new HttpParams().set('include', include.join(','));
+    if (booksAfter) {
+      params = params.set('booksAfter', booksAfter);
+    }
+    if (magazinesAfter) {
+      params = params.set('magazinesAfter', magazinesAfter);
+    }
+    return this.http.get<PublicationGroupedResponse>(this.baseUrl, {params});
   }
 }